@@ -0,0 +1,60 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.Message;
+import com.app.playerservicejava.service.chat.ChatHistoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session history under contention: eight threads share one service, each with its own session
+ * (the per-session list is not meant for concurrent writers), on top of {@code sessions} idle ones
+ * that every write's expiry scan has to walk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ChatHistoryBenchmark {
+
+    @Param({"100", "10000"})
+    public int sessions;
+
+    private ChatHistoryService service;
+
+    @State(Scope.Thread)
+    public static class Session {
+        final String id = UUID.randomUUID().toString();
+        final Message message = Message.user("Who led the league in home runs in 1998?");
+    }
+
+    @Setup
+    public void setUp() {
+        service = new ChatHistoryService();
+        for (int i = 0; i < sessions; i++) {
+            service.addMessage("idle-" + i, Message.user("hello"));
+        }
+    }
+
+    @Benchmark
+    public List<Message> addThenGet(Session session) {
+        service.addMessage(session.id, session.message);
+        return service.getHistory(session.id);
+    }
+}
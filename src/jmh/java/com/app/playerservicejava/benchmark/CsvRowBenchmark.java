@@ -0,0 +1,72 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.export.PlayerCsvWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV row encoding as done by the export stream, into a discarding sink. One in eight rows has a
+ * name that needs quoting, and a few have non-ASCII characters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvRowBenchmark {
+
+    private static final int ROWS = 1024;
+
+    private final Player[] players = new Player[ROWS];
+    private PlayerCsvWriter writer;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        for (int i = 0; i < ROWS; i++) {
+            Player player = new Player();
+            player.setPlayerId("player" + String.format("%02d", i % 100) + i);
+            player.setFirstName(i % 16 == 0 ? "José" : "John");
+            player.setLastName(i % 8 == 0 ? "O\"Neil, Jr." : "Smith");
+            player.setBirthYear(String.valueOf(1900 + random.nextInt(100)));
+            player.setBirthMonth(String.valueOf(1 + random.nextInt(12)));
+            player.setBirthDay(String.valueOf(1 + random.nextInt(28)));
+            player.setBirthCountry("USA");
+            player.setBirthState("CA");
+            player.setBirthCity("Los Angeles");
+            player.setGivenName("John William");
+            player.setWeight(String.valueOf(160 + random.nextInt(80)));
+            player.setHeight(String.valueOf(66 + random.nextInt(12)));
+            player.setBats("R");
+            player.setThrowStats("R");
+            player.setDebut("1995-04-02");
+            player.setFinalGame("2004-09-30");
+            player.setRetroId("smitj001");
+            player.setBbrefId("smithjo01");
+            players[i] = player;
+        }
+        writer = new PlayerCsvWriter(OutputStream.nullOutputStream());
+        writer.writeHeader();
+    }
+
+    @Benchmark
+    public void writeRow() throws IOException {
+        writer.writeRow(players[next++ & (ROWS - 1)]);
+    }
+}
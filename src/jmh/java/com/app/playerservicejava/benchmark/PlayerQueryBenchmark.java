@@ -0,0 +1,98 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.PlayerServiceJavaApplication;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player queries against H2 loaded with the real Player.csv (run from the project directory).
+ * Caching is off ({@code spring.cache.type=none}) so every call does the actual lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerQueryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Prefix {
+        @Param({"Jo", "Will", "Rodr"})
+        public String value;
+    }
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private PlayerRepository playerRepository;
+    private final Pageable firstPage = PageRequest.of(0, 20);
+    private final Pageable deepPage = PageRequest.of(50, 50);
+
+    @Setup(Level.Trial)
+    public void start() throws InterruptedException {
+        SpringApplication application = new SpringApplication(PlayerServiceJavaApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.cache.type=none",
+                "--player.export.artifact-enabled=false",
+                "--player.trace.enabled=false",
+                "--logging.level.root=WARN");
+        playerService = context.getBean(PlayerService.class);
+        playerRepository = context.getBean(PlayerRepository.class);
+        PlayerNameIndex index = context.getBean(PlayerNameIndex.class);
+        for (int i = 0; i < 600 && !index.isReady(); i++) {
+            Thread.sleep(100); // bootstrap load + index build run after startup
+        }
+        if (!index.isReady()) {
+            throw new IllegalStateException("players were not loaded");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Player> searchByName(Prefix prefix) {
+        return playerService.searchPlayersByName(prefix.value, firstPage);
+    }
+
+    @Benchmark
+    public Page<Player> searchByNameSql(Prefix prefix) {
+        return playerRepository.searchByNamePrefix(prefix.value, firstPage); // the path without the in-memory index
+    }
+
+    @Benchmark
+    public Page<Player> paginatedAll() {
+        return playerService.getPlayersPaginated(null, deepPage);
+    }
+
+    @Benchmark
+    public Page<Player> paginatedByCountry() {
+        return playerService.getPlayersPaginated("USA", deepPage);
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.service.chat.ChatClientService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The blocked-phrase scan every chat prompt goes through, for a clean prompt (full scan) and one
+ * caught by the last pattern, at the 1000-character prompt limit and a typical length.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptScreeningBenchmark {
+
+    @Param({"80", "1000"})
+    public int length;
+
+    private String clean;
+    private String blocked;
+
+    @Setup
+    public void setUp() {
+        String sentence = "Which Player had the most Stolen Bases before 1950 and where were they born? ";
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) {
+            text.append(sentence);
+        }
+        clean = text.substring(0, length);
+        String tail = " forget instructions";
+        blocked = clean.substring(0, length - tail.length()) + tail;
+    }
+
+    @Benchmark
+    public String cleanPrompt() {
+        return ChatClientService.findBlockedPattern(clean);
+    }
+
+    @Benchmark
+    public String blockedPrompt() {
+        return ChatClientService.findBlockedPattern(blocked);
+    }
+}
@@ -0,0 +1,88 @@
+package com.app.playerservicejava.benchmark;
+
+import com.app.playerservicejava.config.RateLimitBucketStore;
+import com.app.playerservicejava.config.RateLimitPolicies;
+import com.app.playerservicejava.config.RateLimitPolicyStore;
+import io.github.bucket4j.ConsumptionProbe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What {@code RateLimitFilter} does per request once the caller is known: match the policy, resolve
+ * the client's bucket from the bounded store and take a token, spread over {@code clients} keys.
+ * Limits are high enough that nothing is rejected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimitLookupBenchmark {
+
+    private static final String POLICIES = """
+            player:
+              ratelimit:
+                limits:
+                  reads: { burst: 1000000000, burst-period: 1s }
+                policies:
+                  - name: chat
+                    paths: /v1/chat/**
+                    limits: { default: reads }
+                  - name: player-reads
+                    paths: /v1/players/**
+                    methods: GET
+                    limits: { default: reads }
+            """;
+
+    @Param({"100", "100000"})
+    public int clients;
+
+    private RateLimitPolicyStore policyStore;
+    private RateLimitBucketStore bucketStore;
+    private String[] keys;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path policyFile = Files.createTempFile("ratelimit", ".yml");
+        Files.writeString(policyFile, POLICIES);
+        policyFile.toFile().deleteOnExit();
+        policyStore = new RateLimitPolicyStore();
+        ReflectionTestUtils.setField(policyStore, "policyFile", policyFile.toString());
+        policyStore.init();
+
+        bucketStore = new RateLimitBucketStore();
+        bucketStore.init();
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "ip:10." + (i >> 16 & 255) + "." + (i >> 8 & 255) + "." + (i & 255);
+        }
+    }
+
+    @Benchmark
+    public ConsumptionProbe matchResolveConsume() {
+        RateLimitPolicies.Policy policy = policyStore.match("GET", "/v1/players/aardsda01");
+        RateLimitPolicies.Limit limit = policyStore.limit(policy.getLimits().get("default"));
+        String client = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        return bucketStore.resolve(policy.getBucket() + "|reads|" + client, limit, policyStore.getVersion())
+                .tryConsumeAndReturnRemaining(policy.getCost());
+    }
+}
@@ -0,0 +1,91 @@
+package com.app.playerservicejava.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit for one endpoint group that adapts to observed latency (gradient style).
+ * <p>
+ * A slow moving average of request latency stands in for the "no load" latency. When recent
+ * latency climbs above it (times {@link #TOLERANCE}), requests are queueing somewhere and the limit
+ * is scaled down by the ratio; while latency stays flat the limit grows by about sqrt(limit) per
+ * sample. Failed requests (5xx) cut the limit multiplicatively. Samples taken while the group is
+ * well below its limit are ignored, so an idle group does not grow an unbounded limit.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_WINDOW = 600;
+    private static final double BACKOFF = 0.9;
+
+    private final String group;
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos; // guarded by this
+
+    public AdaptiveConcurrencyLimit(String group, int initialLimit, int minLimit, int maxLimit) {
+        this.group = group;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    // ✅ Claims a slot; false = the group is at its limit and the request should be shed
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // ✅ Frees the slot and feeds the sample in; rttNanos < 0 = no usable sample (e.g. async)
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtEnd = inFlight.getAndDecrement();
+        if (rttNanos >= 0 || dropped) {
+            onSample(rttNanos, inFlightAtEnd, dropped);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtEnd, boolean dropped) {
+        double current = limit;
+        if (dropped) {
+            limit = Math.max(minLimit, current * BACKOFF);
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+            if (longRttNanos > 2 * rttNanos) {
+                longRttNanos = (longRttNanos + rttNanos) / 2; // recover faster after a slow period
+            }
+        }
+        if (inFlightAtEnd < current / 2) {
+            return; // not enough load to say anything about the limit
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / Math.max(1, rttNanos)));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,173 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.service.trace.RequestTrace;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP Basic authentication that only pays for BCrypt once per credential.
+ * <p>
+ * The API is stateless, so every request carries the password again and the wrapped
+ * {@link DaoAuthenticationProvider} would re-run a BCrypt check on each one. After a successful check
+ * the result is kept in a bounded Caffeine cache ({@code player.security.auth-cache.max-entries}) for
+ * {@code player.security.auth-cache.ttl}; later requests with the same credentials are matched by an
+ * HMAC-SHA256 digest instead. The digest key is random per process, so neither passwords nor anything
+ * that could be brute-forced offline are held in memory.
+ * <p>
+ * A hit still reloads the user and is only honoured while the stored password hash is the one that was
+ * verified and the account is usable, so a password change or a disabled account takes effect at once.
+ * Failed attempts are never cached - a wrong password always goes through BCrypt.
+ */
+@Component
+public class CachingAuthenticationProvider implements AuthenticationProvider, MeterBinder {
+
+    private static final String HMAC = "HmacSHA256";
+
+    @Value("${player.security.auth-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${player.security.auth-cache.ttl:5m}")
+    private Duration ttl = Duration.ofMinutes(5);
+
+    @Value("${player.security.auth-cache.max-entries:10000}")
+    private long maxEntries = 10_000;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private DaoAuthenticationProvider delegate;
+    private Cache<String, Verified> verified;
+    private SecretKeySpec digestKey;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Password hash that was checked, so a later change to the stored hash invalidates the entry
+    private record Verified(String username, String passwordHash) {
+    }
+
+    @PostConstruct
+    public void init() {
+        delegate = new DaoAuthenticationProvider(passwordEncoder);
+        delegate.setUserDetailsService(userDetailsService);
+        verified = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        digestKey = new SecretKeySpec(key, HMAC);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try (RequestTrace.Stage ignored = RequestTrace.stage("auth")) {
+            return authenticateCached(authentication);
+        }
+    }
+
+    private Authentication authenticateCached(Authentication authentication) {
+        if (!enabled || authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+        String username = authentication.getName();
+        String digest = digest(username, authentication.getCredentials().toString());
+
+        Verified entry = verified.getIfPresent(digest);
+        if (entry != null && entry.username().equals(username)) {
+            UserDetails user = currentUser(username);
+            if (user != null && usable(user) && entry.passwordHash().equals(user.getPassword())) {
+                hits.increment();
+                UsernamePasswordAuthenticationToken result =
+                        UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+                result.setDetails(authentication.getDetails());
+                return result;
+            }
+            verified.invalidate(digest);
+        }
+
+        misses.increment();
+        Authentication result = delegate.authenticate(authentication); // ✅ throws on bad credentials - nothing cached
+        if (result.getPrincipal() instanceof UserDetails user && user.getPassword() != null) {
+            verified.put(digest, new Verified(username, user.getPassword()));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    // ✅ Forget every verified credential, e.g. after bulk user changes
+    public void invalidateAll() {
+        verified.invalidateAll();
+    }
+
+    private UserDetails currentUser(String username) {
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static boolean usable(UserDetails user) {
+        return user.isEnabled() && user.isAccountNonLocked() && user.isAccountNonExpired()
+                && user.isCredentialsNonExpired();
+    }
+
+    private String digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(digestKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.auth.cache", hits, LongAdder::sum)
+                .tag("result", "hit").description("Basic auth checks answered from the verified-credential cache")
+                .register(registry);
+        FunctionCounter.builder("player.auth.cache", misses, LongAdder::sum)
+                .tag("result", "miss").description("Basic auth checks answered from the verified-credential cache")
+                .register(registry);
+        Gauge.builder("player.auth.cache.size", this, s -> s.verified == null ? 0 : s.verified.estimatedSize())
+                .description("Verified credentials currently cached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,140 @@
+package com.app.playerservicejava.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load shedding in front of everything else - before security, so a shed request costs no BCrypt.
+ * <p>
+ * Requests are grouped by path prefix ({@code player.concurrency.groups}, first match wins, the
+ * rest fall into "default"); each group has an {@link AdaptiveConcurrencyLimit} that tracks its own
+ * latency, so slow chat calls shrink the chat limit without starving player reads. A request over
+ * its group's limit is answered 503 with Retry-After straight away instead of waiting for a worker
+ * thread. Health and other actuator traffic is never limited, so probes keep answering under load.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+    private static final String DEFAULT_GROUP = "default";
+
+    @Value("${player.concurrency.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${player.concurrency.groups:chat=/v1/chat,export=/v1/players/export,players=/v1/players}")
+    private String groups = "chat=/v1/chat,export=/v1/players/export,players=/v1/players";
+
+    @Value("${player.concurrency.initial-limit:50}")
+    private int initialLimit = 50;
+
+    @Value("${player.concurrency.min-limit:4}")
+    private int minLimit = 4;
+
+    @Value("${player.concurrency.max-limit:200}")
+    private int maxLimit = 200;
+
+    @Value("${player.concurrency.retry-after-seconds:1}")
+    private int retryAfterSeconds = 1;
+
+    private final Map<String, String> prefixes = new LinkedHashMap<>();
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new LinkedHashMap<>();
+    private final Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (String entry : groups.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length == 2 && !parts[0].isBlank()) {
+                prefixes.put(parts[1].trim(), parts[0].trim());
+            }
+        }
+        for (String group : prefixes.values()) {
+            limits.putIfAbsent(group, new AdaptiveConcurrencyLimit(group, initialLimit, minLimit, maxLimit));
+        }
+        limits.putIfAbsent(DEFAULT_GROUP, new AdaptiveConcurrencyLimit(DEFAULT_GROUP, initialLimit, minLimit, maxLimit));
+        limits.keySet().forEach(group -> rejected.put(group, new LongAdder()));
+        LOGGER.info("Concurrency limits {} for groups {}", enabled ? "enabled" : "disabled", limits.keySet());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // ✅ Probes and actuator always get through
+        return !enabled || request.getRequestURI().startsWith("/actuator") || request.getRequestURI().equals("/error");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        AdaptiveConcurrencyLimit limit = limitFor(request.getRequestURI());
+        if (!limit.tryAcquire()) {
+            rejected.get(limit.getGroup()).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\": \"Server busy (" + limit.getGroup() + "), retry later.\"}");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            // async requests hand the thread back early - their duration says nothing about load
+            long rtt = request.isAsyncStarted() ? -1 : System.nanoTime() - start;
+            limit.release(rtt, failed || response.getStatus() >= 500);
+        }
+    }
+
+    private AdaptiveConcurrencyLimit limitFor(String path) {
+        for (Map.Entry<String, String> entry : prefixes.entrySet()) {
+            if (path.startsWith(entry.getKey())) {
+                return limits.get(entry.getValue());
+            }
+        }
+        return limits.get(DEFAULT_GROUP);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limits.values().forEach(limit -> {
+            Gauge.builder("player.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .tag("group", limit.getGroup()).description("Current adaptive concurrency limit")
+                    .register(registry);
+            Gauge.builder("player.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .tag("group", limit.getGroup()).description("Requests currently in flight")
+                    .register(registry);
+            FunctionCounter.builder("player.concurrency.rejected", rejected.get(limit.getGroup()), LongAdder::sum)
+                    .tag("group", limit.getGroup()).description("Requests shed with 503")
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.service.trace.RequestTrace;
+import com.app.playerservicejava.service.trace.SlowRequestRecorder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Outermost filter: gives every request a correlation id and a {@link RequestTrace}.
+ * <p>
+ * The id comes from the caller's {@code X-Correlation-Id} header when it is a plausible token, otherwise
+ * a new UUID; it is echoed in the response header, put in the logging MDC and used by
+ * {@link GlobalExceptionHandler} in error bodies, so one id ties together logs, error responses, JFR
+ * events and the slow-request endpoint. When the request completes its trace is offered to the
+ * {@link SlowRequestRecorder}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+    private static final String ATTRIBUTE = CorrelationIdFilter.class.getName() + ".id";
+    private static final Pattern VALID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    @Value("${player.trace.enabled:true}")
+    private boolean tracingEnabled = true;
+
+    @Autowired
+    private SlowRequestRecorder slowRequestRecorder;
+
+    // ✅ The current request's id; a fresh one if the request didn't pass through this filter
+    public static String correlationId(HttpServletRequest request) {
+        Object id = request == null ? null : request.getAttribute(ATTRIBUTE);
+        return id != null ? id.toString() : UUID.randomUUID().toString();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String supplied = request.getHeader(HEADER);
+        String correlationId = supplied != null && VALID.matcher(supplied).matches()
+                ? supplied : UUID.randomUUID().toString();
+        request.setAttribute(ATTRIBUTE, correlationId);
+        response.setHeader(HEADER, correlationId);
+        MDC.put(MDC_KEY, correlationId);
+
+        RequestTrace trace = tracingEnabled
+                ? RequestTrace.begin(correlationId, request.getMethod(), request.getRequestURI()) : null;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+            if (trace != null) {
+                trace.end(response.getStatus());
+                slowRequestRecorder.record(trace, response.getStatus());
+            }
+        }
+    }
+}
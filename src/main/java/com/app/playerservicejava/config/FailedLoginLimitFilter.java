@@ -0,0 +1,107 @@
+package com.app.playerservicejava.config;
+
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-IP limit on failed logins, run before HTTP Basic authentication.
+ * <p>
+ * {@link RateLimitFilter} runs after authentication so its tiers can follow the caller's role, which
+ * means it never sees a request whose credentials were rejected. This filter covers those: every 401
+ * answered to a request that carried an Authorization header takes a token from the client IP's
+ * bucket, and once that bucket is empty further attempts with credentials are answered 429 without
+ * reaching BCrypt. The limit is {@code player.ratelimit.failed-auth.limit}, a name from the
+ * {@code limits} block; if the active policies don't define it a built-in 10/min, 100/h is used, so a
+ * policy file can't switch it off by accident.
+ */
+@Component
+public class FailedLoginLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final RateLimitPolicies.Limit BUILT_IN = new RateLimitPolicies.Limit();
+
+    static {
+        BUILT_IN.setBurst(10);
+        BUILT_IN.setBurstPeriod(Duration.ofMinutes(1));
+        BUILT_IN.setSustained(100);
+        BUILT_IN.setSustainedPeriod(Duration.ofHours(1));
+    }
+
+    @Value("${player.ratelimit.failed-auth.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${player.ratelimit.failed-auth.limit:failed-logins}")
+    private String limitName = "failed-logins";
+
+    @Autowired
+    private RateLimitPolicyStore policyStore;
+
+    @Autowired
+    private RateLimitBucketStore bucketStore;
+
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled || request.getHeader(HttpHeaders.AUTHORIZATION) == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Bucket bucket = bucket(RateLimitFilter.getClientIp(request));
+        long available = bucket.getAvailableTokens();
+        if (available <= 0) {
+            // ❌ Too many failed logins from this address - don't even check the password
+            rejected.increment();
+            long retryAfterSeconds = Math.max(1,
+                    TimeUnit.NANOSECONDS.toSeconds(bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill()) + 1);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\": \"Too many failed logins. Try again in " + retryAfterSeconds + "s.\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+
+        if (response.getStatus() == HttpStatus.UNAUTHORIZED.value()) {
+            failures.increment();
+            bucket.tryConsume(1);
+        }
+    }
+
+    private Bucket bucket(String ip) {
+        RateLimitPolicies.Limit limit = policyStore.limit(limitName);
+        return bucketStore.resolve("failed-auth|" + limitName + "|ip:" + ip,
+                limit != null ? limit : BUILT_IN, policyStore.getVersion());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.ratelimit.failed.auth", failures, LongAdder::sum)
+                .tag("result", "failed").description("Requests with credentials by failed-login outcome")
+                .register(registry);
+        FunctionCounter.builder("player.ratelimit.failed.auth", rejected, LongAdder::sum)
+                .tag("result", "rejected").description("Requests with credentials by failed-login outcome")
+                .register(registry);
+    }
+}
@@ -3,7 +3,9 @@ package com.app.playerservicejava.config;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -14,7 +16,6 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
@@ -40,7 +41,7 @@ public class    GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handlePlayerNotFound(
             PlayerNotFoundException ex, HttpServletRequest request) {
 
-        String correlationId = UUID.randomUUID().toString();
+        String correlationId = CorrelationIdFilter.correlationId(request);
         LOGGER.warn("[{}] Player not found: {}", correlationId, ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -69,7 +70,7 @@ public class    GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleMalformedJson(
             HttpMessageNotReadableException ex, HttpServletRequest request) {
 
-        String correlationId = UUID.randomUUID().toString();
+        String correlationId = CorrelationIdFilter.correlationId(request);
         LOGGER.warn("[{}] Malformed JSON: {}", correlationId, ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -83,7 +84,7 @@ public class    GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handlePlayerAlreadyExists(
             PlayerAlreadyExistsException ex, HttpServletRequest request) {
 
-        String correlationId = UUID.randomUUID().toString();
+        String correlationId = CorrelationIdFilter.correlationId(request);
         LOGGER.warn("[{}] Duplicate player: {}", correlationId, ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -91,12 +92,80 @@ public class    GlobalExceptionHandler {
                         ex.getMessage(), request.getRequestURI(), correlationId));
     }
 
+    // ✅ 400 - Undecodable keyset pagination cursor
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursor(
+            InvalidCursorException ex, HttpServletRequest request) {
+
+        String correlationId = CorrelationIdFilter.correlationId(request);
+        LOGGER.warn("[{}] Invalid cursor: {}", correlationId, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(buildError(HttpStatus.BAD_REQUEST, "INVALID_CURSOR",
+                        ex.getMessage(), request.getRequestURI(), correlationId));
+    }
+
+    // ✅ 400 - Unknown ?format= on /v1/players/export
+    @ExceptionHandler(UnsupportedExportFormatException.class)
+    public ResponseEntity<Map<String, Object>> handleUnsupportedExportFormat(
+            UnsupportedExportFormatException ex, HttpServletRequest request) {
+
+        String correlationId = CorrelationIdFilter.correlationId(request);
+        LOGGER.warn("[{}] Unsupported export format: {}", correlationId, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(buildError(HttpStatus.BAD_REQUEST, "UNSUPPORTED_EXPORT_FORMAT",
+                        ex.getMessage(), request.getRequestURI(), correlationId));
+    }
+
+    // ✅ 404 - Unknown or expired import job
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleImportJobNotFound(
+            ImportJobNotFoundException ex, HttpServletRequest request) {
+
+        String correlationId = CorrelationIdFilter.correlationId(request);
+        LOGGER.warn("[{}] Import job not found: {}", correlationId, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(buildError(HttpStatus.NOT_FOUND, "IMPORT_JOB_NOT_FOUND",
+                        ex.getMessage(), request.getRequestURI(), correlationId));
+    }
+
+    // ✅ 503 - Import workers and queue are full (backpressure)
+    @ExceptionHandler(ImportQueueFullException.class)
+    public ResponseEntity<Map<String, Object>> handleImportQueueFull(
+            ImportQueueFullException ex, HttpServletRequest request) {
+
+        String correlationId = CorrelationIdFilter.correlationId(request);
+        LOGGER.warn("[{}] Import rejected: {}", correlationId, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(buildError(HttpStatus.SERVICE_UNAVAILABLE, "IMPORT_QUEUE_FULL",
+                        ex.getMessage(), request.getRequestURI(), correlationId));
+    }
+
+    // ✅ 413 - Import upload larger than player.import.max-bytes
+    @ExceptionHandler(ImportTooLargeException.class)
+    public ResponseEntity<Map<String, Object>> handleImportTooLarge(
+            ImportTooLargeException ex, HttpServletRequest request) {
+
+        String correlationId = CorrelationIdFilter.correlationId(request);
+        LOGGER.warn("[{}] Import rejected: {}", correlationId, ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(buildError(HttpStatus.PAYLOAD_TOO_LARGE, "IMPORT_TOO_LARGE",
+                        ex.getMessage(), request.getRequestURI(), correlationId));
+    }
+
     // ✅ 500 - Catch all unexpected errors
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(
             Exception ex, HttpServletRequest request) {
 
-        String correlationId = UUID.randomUUID().toString();
+        String correlationId = CorrelationIdFilter.correlationId(request);
         LOGGER.error("[{}] Unexpected error: {}", correlationId, ex.getMessage(), ex);
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,7 @@
+package com.app.playerservicejava.config;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String jobId) {
+        super("Import job not found: " + jobId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.app.playerservicejava.config;
+
+public class ImportQueueFullException extends RuntimeException {
+    public ImportQueueFullException() {
+        super("Import workers and queue are full, retry later");
+    }
+}
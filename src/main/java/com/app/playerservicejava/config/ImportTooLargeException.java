@@ -0,0 +1,7 @@
+package com.app.playerservicejava.config;
+
+public class ImportTooLargeException extends RuntimeException {
+    public ImportTooLargeException(long maxBytes) {
+        super("Import upload exceeds the limit of " + maxBytes + " bytes");
+    }
+}
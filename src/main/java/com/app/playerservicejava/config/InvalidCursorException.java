@@ -0,0 +1,7 @@
+package com.app.playerservicejava.config;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid or expired cursor: " + cursor);
+    }
+}
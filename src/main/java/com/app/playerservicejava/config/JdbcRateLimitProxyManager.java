@@ -0,0 +1,140 @@
+package com.app.playerservicejava.config;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * bucket4j proxy manager that keeps bucket state in a SQL table shared by every replica.
+ * <p>
+ * Each row holds the serialized state and a version number; a write only lands if the version is
+ * still the one that was read ({@code UPDATE ... WHERE VERSION = ?}), otherwise bucket4j re-reads
+ * and retries. Rows carry an expiry derived from the time the bucket needs to refill completely, capped
+ * at {@link #setMaxTimeToLive(Duration)}, and {@link #purgeExpired()} deletes the ones past it. Expected table (H2 shown, BYTEA on Postgres):
+ * <pre>
+ * CREATE TABLE RATE_LIMIT_BUCKET (
+ *     BUCKET_KEY VARCHAR(512) NOT NULL PRIMARY KEY,
+ *     STATE      VARBINARY(4096) NOT NULL,
+ *     VERSION    BIGINT NOT NULL,
+ *     EXPIRES_AT BIGINT NOT NULL
+ * );
+ * </pre>
+ */
+public class JdbcRateLimitProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+
+    private volatile ExpirationAfterWriteStrategy expiration;
+
+    public JdbcRateLimitProxyManager(JdbcTemplate jdbcTemplate, String table, ClientSideConfig clientSideConfig,
+                                     Duration maxTimeToLive) {
+        super(clientSideConfig);
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        setMaxTimeToLive(maxTimeToLive);
+    }
+
+    // ✅ Must cover the slowest refill of any limit, or a purged row comes back as a full bucket
+    public void setMaxTimeToLive(Duration maxTimeToLive) {
+        expiration = ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(maxTimeToLive);
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+        return new CompareAndSwapOperation() {
+            private Long version; // null = no row when read
+
+            @Override
+            public Optional<byte[]> getStateData(Optional<Long> timeoutNanos) {
+                List<Object[]> rows = jdbcTemplate.query(
+                        "SELECT STATE, VERSION FROM " + table + " WHERE BUCKET_KEY = ?",
+                        (rs, i) -> new Object[]{rs.getBytes(1), rs.getLong(2)}, key);
+                if (rows.isEmpty()) {
+                    version = null;
+                    return Optional.empty();
+                }
+                version = (Long) rows.get(0)[1];
+                return Optional.of((byte[]) rows.get(0)[0]);
+            }
+
+            @Override
+            public boolean compareAndSwap(byte[] originalData, byte[] newData, RemoteBucketState newState,
+                                          Optional<Long> timeoutNanos) {
+                boolean swapped = version == null ? insert(key, newData, newState) : update(key, newData, newState, version);
+                (swapped ? swaps : conflicts).increment();
+                return swapped;
+            }
+        };
+    }
+
+    private boolean insert(String key, byte[] data, RemoteBucketState state) {
+        try {
+            return jdbcTemplate.update("INSERT INTO " + table + " (BUCKET_KEY, STATE, VERSION, EXPIRES_AT) VALUES (?, ?, 1, ?)",
+                    key, data, expiresAt(state)) == 1;
+        } catch (DuplicateKeyException e) {
+            return false; // another node created it first
+        }
+    }
+
+    private boolean update(String key, byte[] data, RemoteBucketState state, long expectedVersion) {
+        return jdbcTemplate.update("UPDATE " + table + " SET STATE = ?, VERSION = VERSION + 1, EXPIRES_AT = ?"
+                + " WHERE BUCKET_KEY = ? AND VERSION = ?", data, expiresAt(state), key, expectedVersion) == 1;
+    }
+
+    private long expiresAt(RemoteBucketState state) {
+        long now = System.currentTimeMillis();
+        return now + expiration.calculateTimeToLiveMillis(state, now);
+    }
+
+    public int purgeExpired() {
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE EXPIRES_AT < ?", System.currentTimeMillis());
+    }
+
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    public long getConflicts() {
+        return conflicts.sum();
+    }
+
+    @Override
+    public void removeProxy(String key) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE BUCKET_KEY = ?", key);
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isExpireAfterWriteSupported() {
+        return true;
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(String key) {
+        throw new UnsupportedOperationException("JDBC rate limit store is synchronous");
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(String key) {
+        throw new UnsupportedOperationException("JDBC rate limit store is synchronous");
+    }
+}
@@ -0,0 +1,48 @@
+package com.app.playerservicejava.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+/**
+ * Service-level metrics wiring.
+ * <p>
+ * {@link TimedAspect} turns {@code @Timed} on service beans into timers; their SLO buckets come from
+ * {@code management.metrics.distribution.slo.*} like the HTTP server ones. Each cache listed under
+ * {@code player.cache.specs} gets its own Caffeine spec instead of the shared
+ * {@code spring.cache.caffeine.spec}, always with stats recording so the cache metrics Boot binds
+ * (hits, misses, evictions, size) are real numbers.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsConfiguration.class);
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> perCacheSpecs(Environment environment) {
+        Map<String, String> specs = Binder.get(environment)
+                .bind("player.cache.specs", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        return cacheManager -> specs.forEach((name, spec) -> {
+            String effective = spec.contains("recordStats") ? spec : spec + ",recordStats";
+            cacheManager.registerCustomCache(name, Caffeine.from(effective).build());
+            LOGGER.info("Cache {} configured with {}", name, effective);
+        });
+    }
+}
@@ -1,47 +1,165 @@
 package com.app.playerservicejava.config;
 
 import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.loader.PlayerDataLoadedEvent;
+import com.app.playerservicejava.service.loader.PlayerDataLoader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health of the PLAYERS table, computed off the probe path.
+ * <p>
+ * A single background thread runs the database check every {@code player.health.refresh-interval-ms}
+ * and keeps the result; {@link #health()} only reads that snapshot, so probes and scrapes cost the same
+ * however often they arrive and never queue on the connection pool. A failed check keeps serving the
+ * last good result (with the error attached) until it is older than {@code player.health.stale-after-ms};
+ * after that - or if the check itself hangs - the indicator reports DOWN.
+ */
 @Component("playerDB")  // ✅ Shows as "playerDB" in health response
 public class PlayerDBHealthIndicator implements HealthIndicator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerDBHealthIndicator.class);
 
+    @Value("${player.health.refresh-interval-ms:5000}")
+    private long refreshIntervalMillis = 5000;
+
+    @Value("${player.health.stale-after-ms:30000}")
+    private long staleAfterMillis = 30_000;
+
     @Autowired
     private PlayerRepository playerRepository;
 
+    @Autowired
+    private PlayerDataLoader playerDataLoader;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService refresher;
+    private Timer checkTimer;
+
+    // Last completed check; its timestamp drives staleness
+    private record Snapshot(Health health, Instant checkedAt) {
+    }
+
+    private volatile Snapshot snapshot;
+    private volatile String lastError;
+
+    @PostConstruct
+    public void start() {
+        if (meterRegistry != null) {
+            checkTimer = Timer.builder("player.health.db.check")
+                    .description("Latency of the background PLAYERS table health check")
+                    .register(meterRegistry);
+            Gauge.builder("player.health.db.age", this, h -> h.snapshot == null ? Double.NaN
+                            : (System.currentTimeMillis() - h.snapshot.checkedAt().toEpochMilli()) / 1000.0)
+                    .baseUnit("seconds").description("Age of the health snapshot served to probes")
+                    .register(meterRegistry);
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "player-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // ✅ Check straight away once data is in, so readiness doesn't wait for the next tick
+    @EventListener
+    public void onPlayersLoaded(PlayerDataLoadedEvent event) {
+        refresher.execute(this::refresh);
+    }
+
     @Override
     public Health health() {
+        // ✅ Stay DOWN (and out of readiness) until the bootstrap load has finished
+        if (!playerDataLoader.isLoaded()) {
+            return Health.down()
+                    .withDetail("database", "H2 in-memory")
+                    .withDetail("status", "Bootstrap load in progress")
+                    .build();
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Health.down()
+                    .withDetail("database", "H2 in-memory")
+                    .withDetail("status", "Waiting for first health check")
+                    .build();
+        }
+        long ageMillis = System.currentTimeMillis() - current.checkedAt().toEpochMilli();
+        Health.Builder builder = ageMillis > staleAfterMillis
+                ? Health.down().withDetails(current.health().getDetails())
+                        .withDetail("status", "Health check stale")
+                : Health.status(current.health().getStatus()).withDetails(current.health().getDetails());
+        builder.withDetail("checkedAt", current.checkedAt().toString())
+                .withDetail("ageMs", ageMillis);
+        String error = lastError;
+        if (error != null) {
+            builder.withDetail("lastError", error);
+        }
+        return builder.build();
+    }
+
+    void refresh() {
+        if (!playerDataLoader.isLoaded()) {
+            return;
+        }
+        long start = System.nanoTime();
         try {
             // ✅ Dummy query - checks DB is reachable
             long count = playerRepository.count();
-
-            if (count > 0) {
-                return Health.up()
-                        .withDetail("database", "H2 in-memory")
-                        .withDetail("playerCount", count)
-                        .withDetail("status", "DB connection OK")
-                        .build();
-            } else {
-                return Health.down()
-                        .withDetail("database", "H2 in-memory")
-                        .withDetail("playerCount", 0)
-                        .withDetail("status", "DB empty - CSV may not have loaded")
-                        .build();
+            snapshot = new Snapshot(count > 0
+                    ? Health.up()
+                            .withDetail("database", "H2 in-memory")
+                            .withDetail("playerCount", count)
+                            .withDetail("status", "DB connection OK")
+                            .build()
+                    : Health.down()
+                            .withDetail("database", "H2 in-memory")
+                            .withDetail("playerCount", 0)
+                            .withDetail("status", "DB empty - CSV may not have loaded")
+                            .build(),
+                    Instant.now());
+            if (lastError != null) {
+                LOGGER.info("Health check recovered");
+                lastError = null;
             }
         } catch (Exception e) {
-            LOGGER.error("Health check failed: {}", e.getMessage());
-            return Health.down()
-                    .withDetail("database", "H2 in-memory")
-                    .withDetail("error", e.getMessage())
-                    .withDetail("status", "DB connection FAILED")
-                    .build();
+            if (lastError == null) {
+                LOGGER.error("Health check failed: {}", e.getMessage());
+            }
+            lastError = e.getMessage() == null ? e.toString() : e.getMessage();
+            if (snapshot == null) {
+                snapshot = new Snapshot(Health.down()
+                        .withDetail("database", "H2 in-memory")
+                        .withDetail("status", "DB connection FAILED")
+                        .build(), Instant.now());
+            }
+        } finally {
+            if (checkTimer != null) {
+                checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
         }
     }
 }
@@ -0,0 +1,29 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.service.loader.PlayerSnapshotStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "playersnapshot")  // ✅ GET /actuator/playersnapshot, POST to rewrite it
+public class PlayerSnapshotEndpoint {
+
+    @Autowired
+    private PlayerSnapshotStore snapshotStore;
+
+    @ReadOperation
+    public Map<String, Object> snapshot() throws IOException {
+        return snapshotStore.describe();
+    }
+
+    @WriteOperation
+    public Map<String, Object> writeSnapshot() throws IOException {
+        return snapshotStore.write();
+    }
+}
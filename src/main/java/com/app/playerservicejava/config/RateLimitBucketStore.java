@@ -0,0 +1,238 @@
+package com.app.playerservicejava.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConfigurationBuilder;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets for {@link RateLimitFilter}.
+ * <p>
+ * Buckets are held in a bounded Caffeine cache (lock-striped internally) instead of a map that
+ * grows with every distinct - possibly spoofed - client key. At most {@code player.ratelimit.max-keys}
+ * are tracked and idle ones expire after {@code player.ratelimit.idle-expiry}; under pressure the
+ * frequency-based admission policy keeps the active clients' buckets over one-off keys. An evicted
+ * bucket comes back full, so the expiry is raised to the slowest refill period of the loaded limits
+ * and recomputed whenever the policies change.
+ * <p>
+ * With {@code player.ratelimit.distributed.enabled} the cached objects are proxies onto a
+ * {@link JdbcRateLimitProxyManager} table shared by all replicas, so a client's limit holds across
+ * the cluster. Each proxy consumes up to {@code max-unsynced-tokens} locally and only then - or after
+ * {@code max-unsynced-ms} - reconciles with the table, so most requests make no database round trip.
+ * The table is the application datasource unless {@code distributed.url} points elsewhere. Rows
+ * live until their bucket would be full again, capped by the same expiry as the local cache, so the
+ * minutely purge never hands an idle client a fresh hourly quota.
+ */
+@Component
+public class RateLimitBucketStore implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitBucketStore.class);
+
+    @Value("${player.ratelimit.max-keys:100000}")
+    private long maxKeys = 100_000;
+
+    @Value("${player.ratelimit.idle-expiry:10m}")
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    @Value("${player.ratelimit.distributed.enabled:false}")
+    private boolean distributed = false;
+
+    @Value("${player.ratelimit.distributed.url:}")
+    private String url = "";
+
+    @Value("${player.ratelimit.distributed.username:}")
+    private String username = "";
+
+    @Value("${player.ratelimit.distributed.password:}")
+    private String password = "";
+
+    @Value("${player.ratelimit.distributed.table:RATE_LIMIT_BUCKET}")
+    private String table = "RATE_LIMIT_BUCKET";
+
+    @Value("${player.ratelimit.distributed.max-unsynced-tokens:5}")
+    private long maxUnsyncedTokens = 5;
+
+    @Value("${player.ratelimit.distributed.max-unsynced-ms:200}")
+    private long maxUnsyncedMillis = 200;
+
+    @Autowired(required = false)
+    private DataSource dataSource;
+
+    @Autowired(required = false)
+    private RateLimitPolicyStore policyStore;
+
+    private Cache<String, Tracked> buckets;
+    private JdbcRateLimitProxyManager proxyManager;
+    private ScheduledExecutorService purger;
+    private volatile Duration expiry;
+
+    @PostConstruct
+    public void init() {
+        expiry = idleExpiry;
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .recordStats()
+                .build();
+        if (policyStore != null) {
+            coverRefill(policyStore.longestRefill());
+        }
+        if (distributed) {
+            DataSource shared = url == null || url.isBlank() ? dataSource
+                    : DataSourceBuilder.create().url(url).username(username).password(password).build();
+            proxyManager = new JdbcRateLimitProxyManager(new JdbcTemplate(shared), table,
+                    ClientSideConfig.getDefault(), expiry);
+            purger = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "ratelimit-purge");
+                thread.setDaemon(true);
+                return thread;
+            });
+            purger.scheduleWithFixedDelay(this::purgeExpired, 1, 1, TimeUnit.MINUTES);
+            LOGGER.info("Distributed rate limiting on table {} ({} tokens / {} ms unsynced per node)",
+                    table, maxUnsyncedTokens, maxUnsyncedMillis);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+
+    // ✅ version = policy version; a bucket built under an older version is reconfigured in place,
+    // keeping the share of tokens it had left, so a policy reload doesn't hand every client a full bucket
+    public Bucket resolve(String key, RateLimitPolicies.Limit limit, long version) {
+        if (limit.refillHorizon().compareTo(expiry) > 0) {
+            coverRefill(limit.refillHorizon()); // e.g. a built-in limit the policies don't list
+        }
+        Tracked tracked = buckets.get(key, k -> new Tracked(proxyManager == null ? localBucket(limit)
+                : proxyManager.builder()
+                        .withOptimization(Optimizations.delaying(
+                                new DelayParameters(maxUnsyncedTokens, Duration.ofMillis(maxUnsyncedMillis))))
+                        .withImplicitConfigurationReplacement(version, TokensInheritanceStrategy.PROPORTIONALLY)
+                        .build(k, () -> configuration(limit)), version));
+        if (tracked.version < version && proxyManager == null) {
+            synchronized (tracked) {
+                if (tracked.version < version) {
+                    tracked.bucket.replaceConfiguration(configuration(limit), TokensInheritanceStrategy.PROPORTIONALLY);
+                    tracked.version = version;
+                }
+            }
+        }
+        return tracked.bucket;
+    }
+
+    // ✅ Idle expiry = max(idle-expiry, longest refill), so an idle client can't come back to a full bucket early
+    public synchronized void coverRefill(Duration longestRefill) {
+        Duration wanted = longestRefill.compareTo(idleExpiry) > 0 ? longestRefill : idleExpiry;
+        if (!wanted.equals(expiry)) {
+            buckets.policy().expireAfterAccess().ifPresent(policy -> policy.setExpiresAfter(wanted));
+            if (proxyManager != null) {
+                proxyManager.setMaxTimeToLive(wanted);
+            }
+            expiry = wanted;
+            LOGGER.info("Rate limit buckets now expire after {} idle", wanted);
+        }
+    }
+
+    public Duration getExpiry() {
+        return expiry;
+    }
+
+    public boolean isDistributed() {
+        return proxyManager != null;
+    }
+
+    // ✅ A cached bucket and the policy version its configuration came from
+    private static final class Tracked {
+        private final Bucket bucket;
+        private volatile long version;
+
+        private Tracked(Bucket bucket, long version) {
+            this.bucket = bucket;
+            this.version = version;
+        }
+    }
+
+    private static Bucket localBucket(RateLimitPolicies.Limit limit) {
+        LocalBucketBuilder builder = Bucket.builder();
+        bandwidths(limit).forEach(builder::addLimit);
+        return builder.build();
+    }
+
+    private static BucketConfiguration configuration(RateLimitPolicies.Limit limit) {
+        ConfigurationBuilder builder = BucketConfiguration.builder();
+        bandwidths(limit).forEach(builder::addLimit);
+        return builder.build();
+    }
+
+    private static List<Bandwidth> bandwidths(RateLimitPolicies.Limit limit) {
+        List<Bandwidth> bandwidths = new ArrayList<>(2);
+        bandwidths.add(Bandwidth.builder().capacity(limit.getBurst())
+                .refillGreedy(limit.getBurst(), limit.getBurstPeriod()).build());
+        if (limit.getSustained() > 0) {
+            bandwidths.add(Bandwidth.builder().capacity(limit.getSustained())
+                    .refillGreedy(limit.getSustained(), limit.getSustainedPeriod()).build());
+        }
+        return bandwidths;
+    }
+
+    private void purgeExpired() {
+        try {
+            int purged = proxyManager.purgeExpired();
+            if (purged > 0) {
+                LOGGER.debug("Purged {} expired rate limit buckets", purged);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not purge expired rate limit buckets: {}", e.toString());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("player.ratelimit.keys", this, s -> s.buckets == null ? 0 : s.buckets.estimatedSize())
+                .description("Client buckets currently tracked")
+                .register(registry);
+        FunctionCounter.builder("player.ratelimit.evictions", this,
+                        s -> s.buckets == null ? 0 : s.buckets.stats().evictionCount())
+                .description("Client buckets dropped for size or idleness")
+                .register(registry);
+        FunctionCounter.builder("player.ratelimit.store.writes", this,
+                        s -> s.proxyManager == null ? 0 : s.proxyManager.getSwaps())
+                .tag("result", "ok").description("Compare-and-swap writes to the shared bucket table")
+                .register(registry);
+        FunctionCounter.builder("player.ratelimit.store.writes", this,
+                        s -> s.proxyManager == null ? 0 : s.proxyManager.getConflicts())
+                .tag("result", "conflict").description("Compare-and-swap writes to the shared bucket table")
+                .register(registry);
+    }
+}
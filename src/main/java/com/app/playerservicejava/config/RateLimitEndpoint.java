@@ -0,0 +1,27 @@
+package com.app.playerservicejava.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "ratelimit")  // ✅ GET /actuator/ratelimit for the active policies, POST to re-read the policy file
+public class RateLimitEndpoint {
+
+    @Autowired
+    private RateLimitPolicyStore policyStore;
+
+    @ReadOperation
+    public Map<String, Object> policies() {
+        return policyStore.describe();
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return policyStore.reload();
+    }
+}
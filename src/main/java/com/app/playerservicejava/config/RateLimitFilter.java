@@ -1,75 +1,114 @@
 package com.app.playerservicejava.config;
 
-import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Policy-driven request limiting, run after HTTP Basic authentication so limits can follow the
+ * caller's role. {@link RateLimitPolicyStore} picks the policy for the route and method, the
+ * policy picks a limit for the caller's role and a token cost, and each (bucket, limit, client)
+ * gets a token bucket from {@link RateLimitBucketStore} - keyed by username when authenticated,
+ * by client IP otherwise. A policy reload starts every bucket afresh. Requests whose credentials
+ * are rejected never get here; {@link FailedLoginLimitFilter} limits those per IP.
+ */
 @Component
-public class RateLimitFilter extends OncePerRequestFilter {
+public class RateLimitFilter extends OncePerRequestFilter implements MeterBinder {
 
-    // ✅ One bucket per IP address
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    @Autowired
+    private RateLimitPolicyStore policyStore;
 
-    // ✅ 10 writes per minute per IP
-    private Bucket createNewBucket() {
-        Bandwidth limit = Bandwidth.classic(10, Refill.greedy(10, Duration.ofMinutes(1)));
-        return Bucket.builder().addLimit(limit).build();
-    }
+    @Autowired
+    private RateLimitBucketStore bucketStore;
 
-    private Bucket getBucketForIp(String ip) {
-        return buckets.computeIfAbsent(ip, k -> createNewBucket());
-    }
+    private volatile long policyVersion;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String method = request.getMethod();
-        String path = request.getRequestURI();
-
-        // ✅ Only rate limit write operations on /v1/players
-        boolean isWriteOperation = (method.equals("POST") || method.equals("PUT") ||
-                method.equals("PATCH") || method.equals("DELETE"))
-                && path.startsWith("/v1/players");
-
-        if (isWriteOperation) {
-            String ip = getClientIp(request);
-            Bucket bucket = getBucketForIp(ip);
-
-            if (bucket.tryConsume(1)) {
-                // ✅ Token consumed - request allowed
-                response.addHeader("X-RateLimit-Remaining",
-                        String.valueOf(bucket.getAvailableTokens()));
-                filterChain.doFilter(request, response);
-            } else {
-                // ❌ No tokens left - reject request
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                response.setContentType("application/json");
-                response.getWriter().write(
-                        "{\"error\": \"Too many requests. Limit: 10 writes/min per IP. Try again later.\"}"
-                );
-            }
-        } else {
-            // ✅ GET requests - no rate limiting
+        RateLimitPolicies.Policy policy = policyStore.match(request.getMethod(), request.getRequestURI());
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String limitName = policy == null ? null : limitFor(policy, auth);
+        RateLimitPolicies.Limit limit = limitName == null ? null : policyStore.limit(limitName);
+
+        if (limit == null) {
+            // ✅ No policy for this route / role - no rate limiting
             filterChain.doFilter(request, response);
+            return;
         }
+
+        long version = policyStore.getVersion();
+        if (policyVersion != version) {
+            policyVersion = version;
+            bucketStore.coverRefill(policyStore.longestRefill()); // buckets pick up the new limits in resolve
+        }
+        String client = isAuthenticated(auth) ? "user:" + auth.getName() : "ip:" + getClientIp(request);
+        Bucket bucket = bucketStore.resolve(policy.getBucket() + "|" + limitName + "|" + client, limit, version);
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(policy.getCost());
+
+        if (probe.isConsumed()) {
+            // ✅ Tokens consumed - request allowed
+            allowed.increment();
+            response.addHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+            filterChain.doFilter(request, response);
+        } else {
+            // ❌ Not enough tokens left - reject request
+            rejected.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill()) + 1);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\": \"Too many requests (" + policy.getName()
+                    + "). Try again in " + retryAfterSeconds + "s.\"}");
+        }
+    }
+
+    // ✅ First role of the policy the caller holds, else its "default" limit
+    private static String limitFor(RateLimitPolicies.Policy policy, Authentication auth) {
+        if (isAuthenticated(auth)) {
+            for (Map.Entry<String, String> entry : policy.getLimits().entrySet()) {
+                String authority = "ROLE_" + entry.getKey().toUpperCase(Locale.ROOT);
+                if (auth.getAuthorities().stream().anyMatch(a -> authority.equals(a.getAuthority()))) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return policy.getLimits().entrySet().stream()
+                .filter(e -> e.getKey().equalsIgnoreCase(RateLimitPolicies.DEFAULT_ROLE))
+                .map(Map.Entry::getValue).findFirst().orElse(null);
+    }
+
+    private static boolean isAuthenticated(Authentication auth) {
+        return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken);
     }
 
     // ✅ Handle proxies/load balancers
-    private String getClientIp(HttpServletRequest request) {
+    static String getClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
             ip = request.getHeader("X-Real-IP");
@@ -83,4 +122,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
         return ip;
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.ratelimit.requests", allowed, LongAdder::sum)
+                .tag("result", "allowed").description("Rate-limited requests by outcome")
+                .register(registry);
+        FunctionCounter.builder("player.ratelimit.requests", rejected, LongAdder::sum)
+                .tag("result", "rejected").description("Rate-limited requests by outcome")
+                .register(registry);
+    }
 }
@@ -0,0 +1,51 @@
+package com.app.playerservicejava.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code player.ratelimit} block: named limits plus an ordered list of policies that map
+ * requests (path pattern + method) to a limit per role. The first matching policy wins; requests
+ * no policy matches are not limited.
+ */
+@Data
+public class RateLimitPolicies {
+
+    public static final String DEFAULT_ROLE = "default";
+
+    private Map<String, Limit> limits = new LinkedHashMap<>();
+    private List<Policy> policies = new ArrayList<>();
+
+    // ✅ burst tokens refilled over burstPeriod, optionally capped by a slower sustained rate
+    @Data
+    public static class Limit {
+        private long burst;
+        private Duration burstPeriod = Duration.ofMinutes(1);
+        private long sustained;                 // 0 = burst bandwidth only
+        private Duration sustainedPeriod = Duration.ofHours(1);
+
+        // ✅ Time an emptied bucket needs to be full again - its slowest refill
+        public Duration refillHorizon() {
+            return sustained > 0 && sustainedPeriod.compareTo(burstPeriod) > 0 ? sustainedPeriod : burstPeriod;
+        }
+    }
+
+    @Data
+    public static class Policy {
+        private String name;
+        private List<String> paths = new ArrayList<>();
+        private List<String> methods = new ArrayList<>();   // empty = any method
+        private String bucket;                              // policies naming the same bucket share tokens
+        private long cost = 1;                              // tokens one request takes
+        private Map<String, String> limits = new LinkedHashMap<>(); // role (ADMIN, VIEWER, default) -> limit name
+
+        public String getBucket() {
+            return bucket == null || bucket.isBlank() ? name : bucket;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.app.playerservicejava.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Current rate limit policies. Starts from the {@code player.ratelimit} block of the application
+ * config; when {@code player.ratelimit.policy-file} exists, that YAML file (same layout) replaces it
+ * and is re-read whenever it changes - checked at most every {@code reload-check-ms} - or on
+ * POST /actuator/ratelimit. A file that fails to parse or validate leaves the old policies in place.
+ */
+@Component
+public class RateLimitPolicyStore implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitPolicyStore.class);
+    private static final String PREFIX = "player.ratelimit";
+
+    @Value("${player.ratelimit.policy-file:}")
+    private String policyFile = "";
+
+    @Value("${player.ratelimit.reload-check-ms:5000}")
+    private long reloadCheckMillis = 5000;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private volatile RateLimitPolicies policies = new RateLimitPolicies();
+    private volatile long version;
+    private volatile String source = "none";
+    private volatile Instant fileModified;
+    private volatile long nextCheckAt;
+
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder reloadFailures = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        if (environment != null) {
+            apply(Binder.get(environment).bind(PREFIX, RateLimitPolicies.class).orElseGet(RateLimitPolicies::new),
+                    "application config");
+        }
+        reloadIfChanged();
+    }
+
+    // ✅ First policy whose path pattern and method match, or null
+    public RateLimitPolicies.Policy match(String method, String path) {
+        checkFile();
+        for (RateLimitPolicies.Policy policy : policies.getPolicies()) {
+            if (!policy.getMethods().isEmpty()
+                    && policy.getMethods().stream().noneMatch(m -> m.trim().equalsIgnoreCase(method))) {
+                continue;
+            }
+            for (String pattern : policy.getPaths()) {
+                if (pathMatcher.match(pattern.trim(), path)) {
+                    return policy;
+                }
+            }
+        }
+        return null;
+    }
+
+    public RateLimitPolicies.Limit limit(String name) {
+        return policies.getLimits().get(name);
+    }
+
+    // ✅ Slowest refill across the loaded limits (see RateLimitBucketStore#coverRefill)
+    public Duration longestRefill() {
+        return policies.getLimits().values().stream()
+                .map(RateLimitPolicies.Limit::refillHorizon)
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // ✅ Re-reads the policy file now; the result says what happened
+    public synchronized Map<String, Object> reload() {
+        fileModified = null;
+        return reloadIfChanged();
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", version);
+        body.put("source", source);
+        body.put("limits", policies.getLimits());
+        body.put("policies", policies.getPolicies());
+        return body;
+    }
+
+    private void checkFile() {
+        long now = System.currentTimeMillis();
+        if (now >= nextCheckAt) {
+            nextCheckAt = now + reloadCheckMillis;
+            reloadIfChanged();
+        }
+    }
+
+    private synchronized Map<String, Object> reloadIfChanged() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (policyFile == null || policyFile.isBlank()) {
+            result.put("status", "no policy file configured");
+            return result;
+        }
+        Path path = Paths.get(policyFile);
+        try {
+            if (!Files.exists(path)) {
+                result.put("status", "policy file not found: " + path);
+                return result;
+            }
+            Instant modified = Files.getLastModifiedTime(path).toInstant();
+            if (modified.equals(fileModified)) {
+                result.put("status", "unchanged");
+                return result;
+            }
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                    .load(path.toString(), new FileSystemResource(path));
+            RateLimitPolicies loaded = new Binder(ConfigurationPropertySources.from(sources))
+                    .bind(PREFIX, RateLimitPolicies.class).orElseGet(RateLimitPolicies::new);
+            apply(loaded, path.toString());
+            fileModified = modified;
+            reloads.increment();
+            result.put("status", "reloaded");
+        } catch (IOException | RuntimeException e) {
+            reloadFailures.increment();
+            LOGGER.error("message=Could not load rate limit policies from {}; exception={}", path, e.toString());
+            result.put("status", "failed, previous policies kept: " + e.getMessage());
+        }
+        result.put("version", version);
+        return result;
+    }
+
+    private void apply(RateLimitPolicies loaded, String from) {
+        validate(loaded);
+        policies = loaded;
+        source = from;
+        version++;
+        LOGGER.info("Rate limit policies v{} from {}: {} policies, {} limits",
+                version, from, loaded.getPolicies().size(), loaded.getLimits().size());
+    }
+
+    private static void validate(RateLimitPolicies loaded) {
+        loaded.getLimits().forEach((name, limit) -> {
+            if (limit.getBurst() <= 0 || limit.getBurstPeriod() == null || limit.getBurstPeriod().isZero()) {
+                throw new IllegalArgumentException("Limit " + name + " needs a positive burst and burst-period");
+            }
+        });
+        for (RateLimitPolicies.Policy policy : loaded.getPolicies()) {
+            if (policy.getName() == null || policy.getPaths().isEmpty() || policy.getCost() <= 0) {
+                throw new IllegalArgumentException("Policy " + policy.getName() + " needs a name, paths and a positive cost");
+            }
+            policy.getLimits().forEach((role, limit) -> {
+                if (!loaded.getLimits().containsKey(limit)) {
+                    throw new IllegalArgumentException("Policy " + policy.getName() + " refers to unknown limit " + limit);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.ratelimit.policy.reloads", reloads, LongAdder::sum)
+                .tag("result", "ok").description("Rate limit policy file reloads")
+                .register(registry);
+        FunctionCounter.builder("player.ratelimit.policy.reloads", reloadFailures, LongAdder::sum)
+                .tag("result", "failed").description("Rate limit policy file reloads")
+                .register(registry);
+    }
+}
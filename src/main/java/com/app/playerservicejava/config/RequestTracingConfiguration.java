@@ -0,0 +1,47 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.service.trace.RequestTrace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Times JSON response serialization as the "serialize" stage of the {@link RequestTrace}, by swapping
+ * each Jackson message converter for one that wraps its write.
+ */
+@Configuration
+public class RequestTracingConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == MappingJackson2HttpMessageConverter.class) {
+                MappingJackson2HttpMessageConverter jackson = (MappingJackson2HttpMessageConverter) converters.get(i);
+                converters.set(i, new TracedJacksonConverter(jackson.getObjectMapper()));
+            }
+        }
+    }
+
+    private static final class TracedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+        private TracedJacksonConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            try (RequestTrace.Stage ignored = RequestTrace.stage("serialize")) {
+                super.writeInternal(object, type, outputMessage);
+            }
+        }
+    }
+}
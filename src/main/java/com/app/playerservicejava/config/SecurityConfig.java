@@ -1,9 +1,11 @@
 package com.app.playerservicejava.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -16,7 +18,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -25,10 +27,16 @@ public class SecurityConfig {
     @Autowired
     private RateLimitFilter rateLimitFilter;
 
+    @Autowired
+    private FailedLoginLimitFilter failedLoginLimitFilter;
+
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, CachingAuthenticationProvider authenticationProvider)
+            throws Exception {
         http
-                .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+                .authenticationManager(new ProviderManager(authenticationProvider)) // ✅ BCrypt once per credential, not per request
+                .addFilterBefore(failedLoginLimitFilter, BasicAuthenticationFilter.class) // ✅ password guessing is limited per IP
+                .addFilterAfter(rateLimitFilter, BasicAuthenticationFilter.class) // ✅ limits can follow the caller's role
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
@@ -39,6 +47,7 @@ public class SecurityConfig {
                         .requestMatchers("/actuator/info").permitAll()
                         .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/v1/players/**").hasAnyRole("ADMIN", "VIEWER")
+                        .requestMatchers(HttpMethod.POST, "/v1/players/batch-get").hasAnyRole("ADMIN", "VIEWER") // read-only
                         .requestMatchers(HttpMethod.POST, "/v1/players/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/v1/players/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PATCH, "/v1/players/**").hasRole("ADMIN")
@@ -52,6 +61,21 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // ✅ Only run the rate limiter inside the security chain, not a second time as a plain servlet filter
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<FailedLoginLimitFilter> failedLoginLimitFilterRegistration(FailedLoginLimitFilter filter) {
+        FilterRegistrationBean<FailedLoginLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public UserDetailsService userDetailsService(PasswordEncoder encoder) {
         UserDetails admin = User.builder()
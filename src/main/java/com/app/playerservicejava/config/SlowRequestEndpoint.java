@@ -0,0 +1,29 @@
+package com.app.playerservicejava.config;
+
+import com.app.playerservicejava.service.trace.SlowRequestRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "slowrequests")  // ✅ GET /actuator/slowrequests for the slowest recent requests by stage, DELETE to reset
+public class SlowRequestEndpoint {
+
+    @Autowired
+    private SlowRequestRecorder slowRequestRecorder;
+
+    @ReadOperation
+    public List<Map<String, Object>> slowest() {
+        return slowRequestRecorder.snapshot();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowRequestRecorder.clear();
+    }
+}
@@ -0,0 +1,7 @@
+package com.app.playerservicejava.config;
+
+public class UnsupportedExportFormatException extends RuntimeException {
+    public UnsupportedExportFormatException(String format) {
+        super("Unsupported export format: " + format + " (use csv, ndjson or columnar)");
+    }
+}
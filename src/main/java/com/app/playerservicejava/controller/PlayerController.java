@@ -2,27 +2,41 @@ package com.app.playerservicejava.controller;
 
 import com.app.playerservicejava.config.PlayerAlreadyExistsException;
 import com.app.playerservicejava.config.PlayerNotFoundException;
+import com.app.playerservicejava.config.UnsupportedExportFormatException;
 import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.model.PlayerCursor;
 import com.app.playerservicejava.model.Players;
 import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.export.PlayerExportArtifact;
+import com.app.playerservicejava.service.export.PlayerExportFormat;
 import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.io.PrintWriter;
+import java.util.zip.GZIPOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,8 +48,13 @@ public class PlayerController {
     @Resource
     private PlayerService playerService;
 
+    @Resource
+    private PlayerExportArtifact playerExportArtifact;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerController.class);
 
+    private static final int MAX_BATCH_GET_IDS = 100;
+
 /*    @GetMapping("/all")
     public ResponseEntity<Players> getPlayers() {
         Players players = playerService.getPlayers();
@@ -45,10 +64,14 @@ public class PlayerController {
     @GetMapping
     public ResponseEntity<?> getplayers(@RequestParam(required = false) String country,
                                         @RequestParam(defaultValue = "0") int page,
-                                        @RequestParam(defaultValue = "20") int size)
+                                        @RequestParam(defaultValue = "20") int size,
+                                        @RequestParam(required = false) String cursor)
     {
         if(size >100 || size<1) size = 20;
-        Pageable pageable = PageRequest.of(page,size,Sort.by("playerID").ascending());
+        if (cursor != null) {
+            return getPlayersByCursor(country, cursor, size);
+        }
+        Pageable pageable = PageRequest.of(page,size,Sort.by("playerId").ascending());
         Page<Player> pageResult = playerService.getPlayersPaginated(country,pageable);
 
         return ResponseEntity.ok(Map.of(
@@ -60,6 +83,29 @@ public class PlayerController {
                 ));
     }
 
+    // ✅ Opt-in keyset mode: ?cursor= starts at the beginning, then pass back nextCursor until it is null
+    private ResponseEntity<?> getPlayersByCursor(String country, String cursor, int size) {
+        PlayerCursor position = cursor.isBlank()
+                ? new PlayerCursor(country, null)
+                : PlayerCursor.decode(cursor);
+
+        Slice<Player> slice = playerService.getPlayersAfter(position.getCountry(), position.getLastPlayerId(), size);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            List<Player> content = slice.getContent();
+            nextCursor = new PlayerCursor(position.getCountry(),
+                    content.get(content.size() - 1).getPlayerId()).encode();
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("content", slice.getContent());
+        body.put("size", size);
+        body.put("hasNext", slice.hasNext());
+        body.put("nextCursor", nextCursor);
+        return ResponseEntity.ok(body);
+    }
+
 
    /* @GetMapping("/{id}") ****** this is also correct  refer to this also jhansi
     public ResponseEntity<Player> getPlayerById(@PathVariable("id") String id) {
@@ -79,6 +125,16 @@ public class PlayerController {
                 .orElseThrow(() -> new PlayerNotFoundException(id));
     }
 
+    // ✅ One round trip for a roster: POST ["id1","id2",...], found players come back in request order
+    @PostMapping("/batch-get")
+    public ResponseEntity<?> batchGetPlayers(@RequestBody List<String> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_GET_IDS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Provide between 1 and " + MAX_BATCH_GET_IDS + " player ids"));
+        }
+        return ResponseEntity.ok(playerService.getPlayersByIds(ids));
+    }
+
     @GetMapping("/stat/{id}")
     public ResponseEntity<String> getStats(@PathVariable("id")String id)
     {
@@ -114,7 +170,7 @@ public class PlayerController {
 
     @PostMapping
     public ResponseEntity<Player> createPlayer(@Valid @RequestBody Player player) {
-        if (playerService.getPlayerById(player.getPlayerId()).isPresent()) {
+        if (playerService.existsById(player.getPlayerId())) {
             throw new PlayerAlreadyExistsException(player.getPlayerId());
         }
         return new ResponseEntity<>(playerService.createPlayer(player), HttpStatus.CREATED);
@@ -141,8 +197,7 @@ public class PlayerController {
     @PutMapping()
     public ResponseEntity<Player> updatePlayer(@RequestBody Player player)
     {
-        Optional<Player> playerCheck = playerService.getPlayerById(player.getPlayerId());
-        if(!playerCheck.isEmpty())
+        if (playerService.existsById(player.getPlayerId()))
         {
             Player savePlayer = playerService.savePlayer(player);
             return new ResponseEntity<>(savePlayer,HttpStatus.OK);
@@ -157,7 +212,7 @@ public class PlayerController {
     @PutMapping("/{id}")
     public ResponseEntity<Player> updatePlayer(
             @PathVariable("id") String id, @RequestBody Player player) {
-        if (playerService.getPlayerById(id).isEmpty()) {
+        if (!playerService.existsById(id)) {
             throw new PlayerNotFoundException(id);
         }
         player.setPlayerId(id);
@@ -199,29 +254,117 @@ public class PlayerController {
         return ResponseEntity.ok(result);
     }
 
+    // bulk patch - same non-null field semantics as PATCH /{id}, each entry names its playerId
+    @PatchMapping("/bulk")
+    public ResponseEntity<?> bulkPatchPlayers(@RequestBody List<Player> patches) {
+        Map<String, Object> result = playerService.bulkPatchPlayers(patches);
+        return ResponseEntity.ok(result);
+    }
+
     // ===================== STORY 19 - Export as CSV =====================
 
-    @GetMapping("/export")
-    public void exportPlayersAsCsv(HttpServletResponse response) throws IOException {
-        LOGGER.info("CSV export requested");
+    // ✅ produces */* overrides the class-level JSON: the Content-Type follows the chosen format, not Accept matching
+    @GetMapping(value = "/export", produces = MediaType.ALL_VALUE)
+    public void exportPlayers(@RequestParam(required = false) String format,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // ✅ ?format=csv|ndjson|columnar wins over the Accept header
+        PlayerExportFormat exportFormat = format != null
+                ? PlayerExportFormat.fromParameter(format).orElseThrow(() -> new UnsupportedExportFormatException(format))
+                : PlayerExportFormat.fromAccept(request.getHeader(HttpHeaders.ACCEPT));
+        LOGGER.info("{} export requested", exportFormat);
 
         // ✅ Set response headers
-        response.setContentType("text/csv");
-        response.setCharacterEncoding("UTF-8");
-        response.setHeader("Content-Disposition", "attachment; filename=\"players.csv\"");
+        response.setContentType(exportFormat.getMediaType());
+        if (exportFormat != PlayerExportFormat.COLUMNAR) {
+            response.setCharacterEncoding("UTF-8");
+        }
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + exportFormat.getFileName() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+
+        // ✅ Gzip on the fly when the client accepts it - CSV compresses ~5x
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        // ✅ Serve the pre-built CSV file when there is one (ETag, Range, sendfile)
+        if (exportFormat == PlayerExportFormat.CSV) {
+            Optional<PlayerExportArtifact.ExportFile> file = playerExportArtifact.current(gzip);
+            if (file.isPresent()) {
+                sendExportFile(request, response, file.get());
+                return;
+            }
+        }
 
-        PrintWriter writer = response.getWriter();
+        // ✅ Stream rows from a database cursor straight into the response bytes
+        OutputStream out = response.getOutputStream();
+        long rows;
+        if (gzip) {
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024)) {
+                rows = playerService.streamAllPlayers(gzipOut, exportFormat);
+            }
+        } else {
+            rows = playerService.streamAllPlayers(out, exportFormat);
+        }
 
-        // ✅ Write CSV header row
-        writer.println("playerId,firstName,lastName,birthYear,birthMonth,birthDay," +
-                "birthCountry,birthState,birthCity,weight,height,bats,throwsHand," +
-                "debut,finalGame,retroId,bbrefId");
+        LOGGER.info("{} export completed: {} rows{}", exportFormat, rows, gzip ? " (gzip)" : "");
+    }
 
-        // ✅ Stream players row by row - no full list in memory
-        playerService.streamAllPlayers(writer);
+    private void sendExportFile(HttpServletRequest request, HttpServletResponse response,
+                                PlayerExportArtifact.ExportFile file) throws IOException {
+        long length = file.length();
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, file.lastModified().toEpochMilli());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(file.etag()))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
 
-        writer.flush();
-        LOGGER.info("CSV export completed");
+        // ✅ Single byte range only; a stale If-Range or multiple ranges get the whole file
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(file.etag()))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                HttpRange requested = ranges.get(0);
+                start = requested.getRangeStart(length);
+                end = requested.getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        response.setContentLengthLong(end - start + 1);
+
+        // ✅ Zero-copy: let Tomcat sendfile() the region when the connector supports it
+        if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", file.path().toAbsolutePath().toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", start);
+            request.setAttribute("org.apache.tomcat.sendfile.end", end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
     }
 
     @PatchMapping("/{id}")
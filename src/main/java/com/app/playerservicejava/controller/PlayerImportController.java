@@ -0,0 +1,70 @@
+package com.app.playerservicejava.controller;
+
+import com.app.playerservicejava.config.ImportJobNotFoundException;
+import com.app.playerservicejava.service.ingest.ImportFormat;
+import com.app.playerservicejava.service.ingest.ImportJob;
+import com.app.playerservicejava.service.ingest.PlayerImportService;
+import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping(value = "v1/players/imports", produces = { MediaType.APPLICATION_JSON_VALUE })
+public class PlayerImportController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerImportController.class);
+
+    private static final long SSE_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    @Resource
+    private PlayerImportService playerImportService;
+
+    // ✅ Body is a raw CSV (with header; quoted fields may span lines, as the export writes them) or NDJSON stream,
+    // optionally Content-Encoding: gzip - answered with 202 + job id
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> startImport(HttpServletRequest request) throws IOException {
+        Optional<ImportFormat> format = ImportFormat.fromContentType(request.getContentType());
+        if (format.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                    .body(Map.of("error", "Content-Type must be text/csv or application/x-ndjson"));
+        }
+        boolean gzip = "gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+
+        ImportJob job = playerImportService.submit(request.getInputStream(), format.get(), gzip);
+        LOGGER.info("Import job {} accepted", job.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/v1/players/imports/" + job.getId()))
+                .body(job.toMap());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Map<String, Object>> getImport(@PathVariable String jobId) {
+        return ResponseEntity.ok(findJob(jobId).toMap());
+    }
+
+    // ✅ Server-sent events: one "progress" event per committed chunk, stream ends when the job does
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamImport(@PathVariable String jobId) {
+        ImportJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private ImportJob findJob(String jobId) {
+        Optional<ImportJob> job = playerImportService.find(jobId);
+        return job.orElseThrow(() -> new ImportJobNotFoundException(jobId));
+    }
+}
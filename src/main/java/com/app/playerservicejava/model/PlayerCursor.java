@@ -0,0 +1,50 @@
+package com.app.playerservicejava.model;
+
+import com.app.playerservicejava.config.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset-pagination cursor for GET /v1/players?cursor=...
+ * Encodes the country filter and the last playerId returned, so the next page seeks with playerId &gt; ?.
+ */
+public class PlayerCursor {
+
+    private static final String VERSION = "1";
+    private static final char SEPARATOR = '\u001F';
+
+    private final String country;
+    private final String lastPlayerId;
+
+    public PlayerCursor(String country, String lastPlayerId) {
+        this.country = country == null || country.trim().isEmpty() ? null : country.trim();
+        this.lastPlayerId = lastPlayerId == null ? "" : lastPlayerId;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public String getLastPlayerId() {
+        return lastPlayerId;
+    }
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + (country == null ? "" : country) + SEPARATOR + lastPlayerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PlayerCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new PlayerCursor(parts[1], parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.app.playerservicejava.repository;
 import com.app.playerservicejava.model.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface PlayerRepository extends JpaRepository<Player, String> {
     Page<Player> findByBirthCountryIgnoreCase(String birthCountry, Pageable pageable);
 
@@ -18,4 +26,44 @@ public interface PlayerRepository extends JpaRepository<Player, String> {
     @Query("SELECT p FROM Player p WHERE LOWER(p.firstName) LIKE LOWER(CONCAT(:prefix, '%')) OR LOWER(p.lastName) LIKE LOWER(CONCAT(:prefix, '%'))")
     Page<Player> searchByNamePrefix(@Param("prefix") String prefix, Pageable pageable);
 
+    // Keyset pagination - seek on the primary key, no OFFSET and no count query
+    List<Player> findByPlayerIdGreaterThanOrderByPlayerIdAsc(String playerId, Limit limit);
+
+    List<Player> findByBirthCountryIgnoreCaseAndPlayerIdGreaterThanOrderByPlayerIdAsc(
+            String birthCountry, String playerId, Limit limit);
+
+    // Ids only - feeds the existence filter without materialising every entity
+    @Query("SELECT p.playerId FROM Player p")
+    List<String> findAllPlayerIds();
+
+    @Query("SELECT p.playerId FROM Player p WHERE p.playerId IN :ids")
+    List<String> findExistingPlayerIds(@Param("ids") Collection<String> ids);
+
+    // Forward-only scroll for exports - must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Player p ORDER BY p.playerId")
+    Stream<Player> streamAllByOrderByPlayerId();
+
+    // Name index feed - only the columns the index keeps, no entities; consume inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.playerId AS playerId, p.firstName AS firstName, p.lastName AS lastName,"
+            + " p.birthCountry AS birthCountry FROM Player p")
+    Stream<NameColumns> streamNameColumns();
+
+    interface NameColumns {
+        String getPlayerId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getBirthCountry();
+    }
+
 }
@@ -0,0 +1,15 @@
+package com.app.playerservicejava.service;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published by {@link PlayerService} (or the write coalescer, once per group commit) after any write
+ * to the PLAYERS table.
+ * Carries no detail - listeners that need to know what changed read the table again.
+ */
+public class PlayerDataChangedEvent extends ApplicationEvent {
+
+    public PlayerDataChangedEvent(Object publisher) {
+        super(publisher);
+    }
+}
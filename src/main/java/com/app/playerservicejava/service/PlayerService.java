@@ -3,31 +3,93 @@ package com.app.playerservicejava.service;
 import com.app.playerservicejava.model.Player;
 import com.app.playerservicejava.model.Players;
 import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.bulk.PlayerBulkInserter;
+import com.app.playerservicejava.service.bulk.PlayerBulkUpdater;
+import com.app.playerservicejava.service.bulk.PlayerWriteCoalescer;
+import com.app.playerservicejava.service.bulk.PlayerWriteCoalescer.Change;
+import com.app.playerservicejava.service.cache.PlayerCacheInvalidator;
+import com.app.playerservicejava.service.cache.PlayerIdFilter;
+import com.app.playerservicejava.service.cache.PlayerLookupCoalescer;
+import com.app.playerservicejava.service.export.PlayerExportFormat;
+import com.app.playerservicejava.service.export.PlayerExportMetrics;
+import com.app.playerservicejava.service.export.PlayerExportWriter;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import com.app.playerservicejava.service.trace.RequestTrace;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Service
+@Timed("player.service")  // ✅ one timer per public method (class/method tags), SLO buckets in application.yml
 public class PlayerService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerService.class);
 
     @Autowired
     private PlayerRepository playerRepository;
 
-    @Cacheable(value = "allPlayers")
+    @Autowired
+    private PlayerNameIndex playerNameIndex;
+
+    @Autowired
+    private PlayerCacheInvalidator playerCacheInvalidator;
+
+    @Autowired
+    private PlayerLookupCoalescer playerLookupCoalescer;
+
+    @Autowired
+    private PlayerIdFilter playerIdFilter;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlayerBulkInserter playerBulkInserter;
+
+    @Autowired
+    private PlayerBulkUpdater playerBulkUpdater;
+
+    @Autowired
+    private PlayerWriteCoalescer playerWriteCoalescer;
+
+    @Autowired
+    private PlayerExportMetrics playerExportMetrics;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Cacheable(value = "allPlayers", key = "@playerCacheInvalidator.allPlayersKey()")
     public Players getPlayers() {
         Players players = new Players();
         playerRepository.findAll()
@@ -37,7 +99,7 @@ public class PlayerService {
 
     @Cacheable(
             value = "playerPages",
-            key = "(#birthCountry != null ? #birthCountry : 'ALL') + '_' + #pageable.pageNumber + '_' + #pageable.pageSize"
+            key = "@playerCacheInvalidator.pageKey(#birthCountry, #pageable)"
     )
     public Page<Player> getPlayersPaginated(String birthCountry, Pageable pageable) {
         if (birthCountry != null && !birthCountry.trim().isEmpty()) {
@@ -46,14 +108,133 @@ public class PlayerService {
         return playerRepository.findAll(pageable);
     }
 
-    @Cacheable(value = "players", key = "#playerId")
+    // ✅ Keyset pagination - fetch one extra row to know whether there is a next page, never count
+    public Slice<Player> getPlayersAfter(String birthCountry, String afterPlayerId, int size) {
+        String after = afterPlayerId == null ? "" : afterPlayerId;
+        Limit limit = Limit.of(size + 1);
+        List<Player> rows = (birthCountry != null && !birthCountry.trim().isEmpty())
+                ? playerRepository.findByBirthCountryIgnoreCaseAndPlayerIdGreaterThanOrderByPlayerIdAsc(
+                        birthCountry.trim(), after, limit)
+                : playerRepository.findByPlayerIdGreaterThanOrderByPlayerIdAsc(after, limit);
+
+        boolean hasNext = rows.size() > size;
+        List<Player> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size, Sort.by("playerId").ascending()), hasNext);
+    }
+
+    // ✅ Misses are not cached - they would crowd real players out of the 500-entry cache
+    @Cacheable(value = "players", key = "#playerId", unless = "#result == null")
     public Optional<Player> getPlayerById(String playerId) {
+        if (!playerIdFilter.mightContain(playerId)) {
+            return Optional.empty();
+        }
+        // ✅ Concurrent cache misses for the same id share one slow load
+        Optional<Player> player = playerLookupCoalescer.load(playerId, () -> loadPlayer(playerId));
+        if (player.isEmpty()) {
+            playerIdFilter.recordFalsePositive();
+        }
+        return player;
+    }
+
+    // ✅ Existence pre-check for create/update - no entity fetch, no simulated delay
+    public boolean existsById(String playerId) {
+        if (playerId == null || !playerIdFilter.mightContain(playerId)) {
+            return false;
+        }
+        boolean exists = playerRepository.existsById(playerId);
+        if (!exists) {
+            playerIdFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    // ✅ Multi-get: bulk read of the "players" cache, one findAllById for the misses, backfill
+    public Map<String, Object> getPlayersByIds(Collection<String> playerIds) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String id : playerIds) {
+            if (id != null && !id.trim().isEmpty()) {
+                requested.add(id.trim());
+            }
+        }
+
+        List<String> notFound = new ArrayList<>();
+        List<String> candidates = new ArrayList<>();
+        for (String id : requested) {
+            if (playerIdFilter.mightContain(id)) {
+                candidates.add(id);
+            } else {
+                notFound.add(id);
+            }
+        }
+
+        Cache cache = cacheManager.getCache("players");
+        Map<String, Player> found = new HashMap<>(cachedPlayers(cache, candidates));
+
+        List<String> misses = new ArrayList<>();
+        for (String id : candidates) {
+            if (!found.containsKey(id)) {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (Player player : playerRepository.findAllById(misses)) {
+                found.put(player.getPlayerId(), player);
+                if (cache != null) {
+                    cache.put(player.getPlayerId(), player);
+                }
+            }
+        }
+        LOGGER.debug("BATCH GET: requested={} cacheHits={} fetched={}",
+                requested.size(), candidates.size() - misses.size(), misses.size());
+
+        List<Player> players = new ArrayList<>(found.size());
+        for (String id : requested) {
+            Player player = found.get(id);
+            if (player != null) {
+                players.add(player);
+            } else if (!notFound.contains(id)) {
+                playerIdFilter.recordFalsePositive();
+                notFound.add(id);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("players", players);
+        result.put("notFound", notFound);
+        return result;
+    }
+
+    private static Map<String, Player> cachedPlayers(Cache cache, List<String> ids) {
+        Map<String, Player> hits = new HashMap<>();
+        if (cache == null || ids.isEmpty()) {
+            return hits;
+        }
+        if (cache instanceof CaffeineCache caffeine) {
+            caffeine.getNativeCache().getAllPresent(ids).forEach((key, value) -> {
+                if (value instanceof Player player) {
+                    hits.put((String) key, player);
+                }
+            });
+            return hits;
+        }
+        for (String id : ids) {
+            Player player = cache.get(id, Player.class);
+            if (player != null) {
+                hits.put(id, player);
+            }
+        }
+        return hits;
+    }
+
+    private Optional<Player> loadPlayer(String playerId) {
         Optional<Player> player = null;
 
         /* simulated network delay */
         try {
             player = playerRepository.findById(playerId);
-            Thread.sleep((long)(Math.random() * 2000));
+            try (RequestTrace.Stage ignored = RequestTrace.stage("sleep")) {
+                Thread.sleep((long)(Math.random() * 2000));
+            }
         } catch (Exception e) {
             LOGGER.error("message=Exception in getPlayerById; exception={}", e.toString());
             return Optional.empty();
@@ -62,19 +243,28 @@ public class PlayerService {
     }
 
     @CachePut(value = "players", key = "#result.playerId")
-    @CacheEvict(value = "playerPages", allEntries = true)  // Clear pagination cache only
     public Player createPlayer(Player player)
     {
         LOGGER.info("Creating new player: {}", player.getPlayerId());
-        return playerRepository.save(player);
+        playerIdFilter.add(player.getPlayerId()); // before the insert, so the filter never denies a stored id
+        if (playerWriteCoalescer.isEnabled()) {
+            return playerWriteCoalescer.submit(() -> new Change(true, null, playerRepository.save(player))).after();
+        }
+        Player saved = playerRepository.save(player);
+        playerNameIndex.upsert(saved);
+        invalidateCaches(true, null, saved);
+        return saved;
     }
 
-    @CacheEvict(value = {"players", "playerPages"}, allEntries = true)
+    @CacheEvict(value = "players", key = "#id")
     public Boolean deletePlayer(String id)
     {
-        if (playerRepository.existsById(id))
+        if (existsById(id))
         {
+             Player before = PlayerCacheInvalidator.snapshot(playerNameIndex.find(id).orElse(null));
              playerRepository.deleteById(id);
+             playerNameIndex.remove(id);
+             invalidateCaches(before != null, before, null);
              return true;
         }
         else
@@ -86,52 +276,62 @@ public class PlayerService {
 
     // ✅ Update player - put updated value in cache, clear others
     @CachePut(value = "players", key = "#player.playerId")
-    @CacheEvict(value = {"playerPages", "allPlayers", "playerSearch"}, allEntries = true)
     public Player savePlayer (Player player)
     {
-        return playerRepository.save(player);
+        Player before = PlayerCacheInvalidator.snapshot(playerNameIndex.find(player.getPlayerId()).orElse(null));
+        playerIdFilter.add(player.getPlayerId());
+        if (playerWriteCoalescer.isEnabled()) {
+            return playerWriteCoalescer.submit(() -> new Change(before != null, before, playerRepository.save(player))).after();
+        }
+        Player saved = playerRepository.save(player);
+        playerNameIndex.upsert(saved);
+        invalidateCaches(before != null, before, saved);
+        return saved;
 
     }
 
-    @Cacheable(value = "playerSearch", key = "#namePrefix + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "playerSearch", key = "@playerCacheInvalidator.searchKey(#namePrefix, #pageable)")
     public Page<Player> searchPlayersByName(String namePrefix, Pageable pageable) {
-        LOGGER.info("SEARCH: prefix='{}' page={} size={}",
+        LOGGER.debug("SEARCH: prefix='{}' page={} size={}",
                 namePrefix, pageable.getPageNumber(), pageable.getPageSize());
+        // ✅ Matched from the in-memory prefix index once it is built - LOWER(...) LIKE can't use the name indexes
+        if (playerNameIndex.supports(namePrefix, pageable)) {
+            return withFullRows(playerNameIndex.search(namePrefix, pageable));
+        }
         return playerRepository.searchByNamePrefix(namePrefix, pageable);
     }
 
+    // ✅ The index keeps only ids and names - load the page's rows by primary key, in index order
+    private Page<Player> withFullRows(Page<Player> matches) {
+        List<String> ids = matches.getContent().stream().map(Player::getPlayerId).toList();
+        Map<String, Player> rows = new HashMap<>();
+        playerRepository.findAllById(ids).forEach(p -> rows.put(p.getPlayerId(), p));
+        List<Player> content = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Player row = rows.get(id);
+            if (row != null) { // deleted since the index answered
+                content.add(row);
+            }
+        }
+        return new PageImpl<>(content, matches.getPageable(), matches.getTotalElements());
+    }
+
     //bulk create players
 
-    @CacheEvict(value = {"players", "playerPages", "playerSearch"}, allEntries = true)
     public Map<String, Object> bulkCreatePlayers(List<Player> players) {
-        List<String> createdIds = new ArrayList<>();
-        List<String> failedIds = new ArrayList<>();
-
-        for (Player player : players) {
-            try {
-                // Check duplicate
-                if (playerRepository.existsById(player.getPlayerId())) {
-                    failedIds.add(player.getPlayerId() + " (already exists)");
-                    continue;
-                }
-
-                // Basic validation
-                if (player.getPlayerId() == null || player.getPlayerId().trim().isEmpty()) {
-                    failedIds.add("null-id (missing playerId)");
-                    continue;
-                }
-                if (player.getFirstName() == null || player.getFirstName().trim().isEmpty()) {
-                    failedIds.add(player.getPlayerId() + " (missing firstName)");
-                    continue;
-                }
-
-                Player saved = playerRepository.save(player);
-                createdIds.add(saved.getPlayerId());
+        // ✅ Validation, one set-based duplicate lookup and batched chunk inserts
+        PlayerBulkInserter.Result inserted = playerBulkInserter.insert(players);
 
-            } catch (Exception e) {
-                failedIds.add((player.getPlayerId() != null ? player.getPlayerId() : "unknown") + " (" + e.getMessage() + ")");
-            }
+        List<String> createdIds = new ArrayList<>(inserted.created().size());
+        for (Player saved : inserted.created()) {
+            playerNameIndex.upsert(saved);
+            playerCacheInvalidator.evictPlayer(saved.getPlayerId());
+            createdIds.add(saved.getPlayerId());
+        }
+        if (!createdIds.isEmpty()) {
+            invalidateCaches(List.of(), inserted.created());
         }
+        List<String> failedIds = inserted.failed();
 
         Map<String, Object> result = new HashMap<>();
         result.put("createdIds", createdIds);
@@ -141,41 +341,42 @@ public class PlayerService {
         return result;
     }
 
-    public void streamAllPlayers(PrintWriter writer) {
-        playerRepository.findAll().forEach(player -> {
-            writer.println(String.join(",",
-                    safe(player.getPlayerId()),
-                  //  safe(player.getNameFirst()),
-                    //safe(player.getNameLast()),
-                    safe(player.getBirthYear()  != null ? player.getBirthYear().toString()  : ""),
-                    safe(player.getBirthMonth() != null ? player.getBirthMonth().toString() : ""),
-                    safe(player.getBirthDay()   != null ? player.getBirthDay().toString()   : ""),
-                    safe(player.getBirthCountry()),
-                    safe(player.getBirthState()),
-                    safe(player.getBirthCity()),
-                    safe(player.getWeight()     != null ? player.getWeight().toString()     : ""),
-                    safe(player.getHeight()     != null ? player.getHeight().toString()     : ""),
-                    safe(player.getBats()),
-                  //  safe(player.getThrowsHand()),
-                    safe(player.getDebut()),
-                    safe(player.getFinalGame()),
-                    safe(player.getRetroId()),
-                    safe(player.getBbrefId())
-            ));
-        });
-    }
-
-    private String safe(String value) {
-        if (value == null) return "";
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
-        }
-        return value;
+    // ✅ Streams every player as CSV (header included) - one row in memory at a time
+    @Transactional(readOnly = true)
+    public long streamAllPlayers(OutputStream out) throws IOException {
+        return streamAllPlayers(out, PlayerExportFormat.CSV);
+    }
+
+    @Transactional(readOnly = true)
+    public long streamAllPlayers(OutputStream out, PlayerExportFormat format) throws IOException {
+        long start = System.nanoTime();
+        PlayerExportWriter writer = format.newWriter(out);
+        writer.writeHeader();
+        try (Stream<Player> players = playerRepository.streamAllByOrderByPlayerId()) {
+            Iterator<Player> rows = players.iterator();
+            while (rows.hasNext()) {
+                Player player = rows.next();
+                writer.writeRow(player);
+                entityManager.detach(player); // keep the persistence context from growing with the export
+            }
+        }
+        writer.finish();
+        playerExportMetrics.streamed(format, writer.getRowCount(), System.nanoTime() - start);
+        return writer.getRowCount();
     }
 
     @CachePut(value = "players", key = "#id")
-    @CacheEvict(value = {"playerPages", "allPlayers", "playerSearch"}, allEntries = true)
     public Optional<Player> patchPlayer(String id, Player patch) {
+        if (playerWriteCoalescer.isEnabled()) {
+            // ✅ Load + patch run inside the group transaction; the managed row is flushed at commit
+            return Optional.ofNullable(playerWriteCoalescer.submit(() -> playerRepository.findById(id)
+                    .map(player -> {
+                        Player before = PlayerCacheInvalidator.snapshot(player);
+                        applyPatch(player, patch);
+                        return new Change(true, before, player);
+                    })
+                    .orElseGet(() -> new Change(true, null, null))).after());
+        }
         Optional<Player> existing = playerRepository.findById(id);
 
         if (existing.isEmpty()) {
@@ -184,8 +385,18 @@ public class PlayerService {
         }
 
         Player player = existing.get();
+        Player before = PlayerCacheInvalidator.snapshot(player);
+        applyPatch(player, patch);
+
+        LOGGER.info("Patching player: {}", id);
+        Player saved = playerRepository.save(player);
+        playerNameIndex.upsert(saved);
+        invalidateCaches(true, before, saved);
+        return Optional.of(saved);
+    }
 
-        // ✅ Only update non-null fields
+    // ✅ Copies the non-null fields of patch onto player - shared by single and bulk PATCH
+    public static void applyPatch(Player player, Player patch) {
        // if (patch.getNameFirst()    != null) player.setNameFirst(patch.getNameFirst());
         //if (patch.getNameLast()     != null) player.setNameLast(patch.getNameLast());
         if (patch.getBirthCity()    != null) player.setBirthCity(patch.getBirthCity());
@@ -200,9 +411,49 @@ public class PlayerService {
         if (patch.getHeight()       != null) player.setHeight(patch.getHeight());
         if (patch.getDebut()        != null) player.setDebut(patch.getDebut());
         if (patch.getFinalGame()    != null) player.setFinalGame(patch.getFinalGame());
+    }
 
-        LOGGER.info("Patching player: {}", id);
-        return Optional.of(playerRepository.save(player));
+    // bulk patch players
+
+    public Map<String, Object> bulkPatchPlayers(List<Player> patches) {
+        // ✅ One load per 1000 ids, in-memory patching, one batched transaction
+        PlayerBulkUpdater.Result patched = playerBulkUpdater.patch(patches, PlayerService::applyPatch);
+
+        List<String> updatedIds = new ArrayList<>(patched.updated().size());
+        for (Player saved : patched.updated()) {
+            playerNameIndex.upsert(saved);
+            playerCacheInvalidator.evictPlayer(saved.getPlayerId());
+            updatedIds.add(saved.getPlayerId());
+        }
+        if (!updatedIds.isEmpty()) {
+            invalidateCaches(patched.before(), patched.updated());
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("updatedIds", updatedIds);
+        result.put("notFoundIds", patched.notFound());
+        result.put("failedIds", patched.failed());
+        result.put("message", "Updated " + updatedIds.size() + ", not found " + patched.notFound().size()
+                + ", failed " + patched.failed().size());
+        return result;
+    }
+
+    // ✅ Runs after the row and the name index are updated, so a reader that sees the new
+    //    generation can only ever load the new data. Unknown previous state -> bump everything.
+    //    Also tells derived data (the export file) that the table changed.
+    private void invalidateCaches(boolean previousKnown, Player before, Player after) {
+        if (previousKnown) {
+            playerCacheInvalidator.playerChanged(before, after);
+        } else {
+            playerCacheInvalidator.invalidateAll();
+        }
+        eventPublisher.publishEvent(new PlayerDataChangedEvent(this));
+    }
+
+    // ✅ Batch variant - one invalidation pass and one change event for many rows
+    private void invalidateCaches(List<Player> before, List<Player> after) {
+        playerCacheInvalidator.playersChanged(before, after);
+        eventPublisher.publishEvent(new PlayerDataChangedEvent(this));
     }
 
 
@@ -0,0 +1,209 @@
+package com.app.playerservicejava.service.bulk;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.cache.PlayerIdFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Set-based insert pipeline behind POST /v1/players/bulk.
+ * <p>
+ * Rows are validated up front (in parallel for large requests), duplicates are resolved with one
+ * {@code IN} query per {@link #LOOKUP_CHUNK} ids, and the survivors are persisted
+ * {@code player.bulk.chunk-size} rows per transaction so Hibernate sends them as JDBC batches.
+ * A chunk that fails to commit is retried row by row to isolate the bad rows.
+ * Only touches the table - callers keep the in-memory indexes and caches in step.
+ */
+@Component
+public class PlayerBulkInserter implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerBulkInserter.class);
+
+    static final int LOOKUP_CHUNK = 1000;
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 1000;
+
+    @Value("${player.bulk.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerIdFilter playerIdFilter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder chunkFallbacks = new LongAdder();
+    private volatile double lastRowsPerSecond;
+
+    // ✅ created = persisted players in input order, failed = "<id> (<reason>)" in input order
+    public record Result(List<Player> created, List<String> failed) {
+    }
+
+    public Result insert(List<Player> players) {
+        long start = System.nanoTime();
+        int n = players.size();
+
+        // 1. validate every row, in parallel for big requests
+        String[] errors = new String[n];
+        IntStream rows = IntStream.range(0, n);
+        if (n >= PARALLEL_VALIDATION_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(i -> errors[i] = validate(players.get(i)));
+
+        // 2. duplicates inside the request (first one wins), then against the table in one pass
+        Set<String> seen = new HashSet<>();
+        List<String> candidateIds = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (errors[i] == null) {
+                String id = players.get(i).getPlayerId();
+                if (!seen.add(id)) {
+                    errors[i] = id + " (duplicate in request)";
+                } else {
+                    candidateIds.add(id);
+                }
+            }
+        }
+        Set<String> existing = findExistingIds(candidateIds);
+
+        List<Player> toInsert = new ArrayList<>(candidateIds.size());
+        for (int i = 0; i < n; i++) {
+            if (errors[i] == null) {
+                Player player = players.get(i);
+                if (existing.contains(player.getPlayerId())) {
+                    errors[i] = player.getPlayerId() + " (already exists)";
+                } else {
+                    toInsert.add(player);
+                }
+            }
+        }
+
+        // 3. chunked, batched inserts
+        List<String> failedIds = new ArrayList<>();
+        for (String error : errors) {
+            if (error != null) {
+                failedIds.add(error);
+            }
+        }
+        List<Player> inserted = new ArrayList<>(toInsert.size());
+        for (int from = 0; from < toInsert.size(); from += chunkSize) {
+            List<Player> chunk = toInsert.subList(from, Math.min(from + chunkSize, toInsert.size()));
+            chunk.forEach(p -> playerIdFilter.add(p.getPlayerId())); // before the rows exist
+            insertChunk(chunk, inserted, failedIds);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        created.add(inserted.size());
+        failed.add(failedIds.size());
+        lastRowsPerSecond = n * 1_000_000_000.0 / Math.max(1, elapsedNanos);
+        LOGGER.info("Bulk insert: {} created, {} failed in {} ms ({} rows/sec)",
+                inserted.size(), failedIds.size(), elapsedNanos / 1_000_000, (long) lastRowsPerSecond);
+        return new Result(inserted, failedIds);
+    }
+
+    private static String validate(Player player) {
+        if (player == null || player.getPlayerId() == null || player.getPlayerId().trim().isEmpty()) {
+            return "null-id (missing playerId)";
+        }
+        if (player.getFirstName() == null || player.getFirstName().trim().isEmpty()) {
+            return player.getPlayerId() + " (missing firstName)";
+        }
+        return null;
+    }
+
+    // ✅ Ids the filter rules out are new for sure - only the rest go to the database
+    private Set<String> findExistingIds(List<String> ids) {
+        List<String> maybe = new ArrayList<>();
+        for (String id : ids) {
+            if (playerIdFilter.mightContain(id)) {
+                maybe.add(id);
+            }
+        }
+        if (maybe.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < maybe.size(); from += LOOKUP_CHUNK) {
+            existing.addAll(playerRepository.findExistingPlayerIds(
+                    maybe.subList(from, Math.min(from + LOOKUP_CHUNK, maybe.size()))));
+        }
+        return existing;
+    }
+
+    private void insertChunk(List<Player> chunk, List<Player> inserted, List<String> failedIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            inserted.addAll(chunk);
+        } catch (RuntimeException e) {
+            chunkFallbacks.increment();
+            LOGGER.warn("Bulk insert chunk of {} failed, retrying row by row: {}", chunk.size(), e.toString());
+            for (Player player : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        entityManager.clear(); // nothing left over from the failed chunk or the previous row
+                        entityManager.persist(player);
+                        entityManager.flush();
+                        entityManager.clear();
+                    });
+                    inserted.add(player);
+                } catch (RuntimeException rowError) {
+                    failedIds.add(player.getPlayerId() + " (" + rootMessage(rowError) + ")");
+                }
+            }
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.bulk.rows", created, LongAdder::sum)
+                .tag("result", "created").description("Rows processed by bulk creates")
+                .register(registry);
+        FunctionCounter.builder("player.bulk.rows", failed, LongAdder::sum)
+                .tag("result", "failed").description("Rows processed by bulk creates")
+                .register(registry);
+        FunctionCounter.builder("player.bulk.chunk.fallbacks", chunkFallbacks, LongAdder::sum)
+                .description("Chunks that failed as a batch and were retried row by row")
+                .register(registry);
+        Gauge.builder("player.bulk.rows.per.second", this, b -> b.lastRowsPerSecond)
+                .description("Throughput of the last bulk create")
+                .register(registry);
+    }
+}
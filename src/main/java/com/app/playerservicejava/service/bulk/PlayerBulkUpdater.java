@@ -0,0 +1,142 @@
+package com.app.playerservicejava.service.bulk;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.cache.PlayerCacheInvalidator;
+import com.app.playerservicejava.service.cache.PlayerIdFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Set-based partial update pipeline behind PATCH /v1/players/bulk.
+ * <p>
+ * Targets are loaded with one {@code IN} query per {@link PlayerBulkInserter#LOOKUP_CHUNK} ids, patched
+ * in memory and flushed inside a single transaction, so Hibernate sends the dirty rows as JDBC update
+ * batches. The batch is all-or-nothing: if the transaction fails every target is reported as failed.
+ * Only touches the table - callers keep the in-memory indexes and caches in step.
+ */
+@Component
+public class PlayerBulkUpdater implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerBulkUpdater.class);
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerIdFilter playerIdFilter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final LongAdder updated = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    // ✅ before = partition snapshots of the updated rows, updated = new state, both in first-seen order
+    public record Result(List<Player> before, List<Player> updated, List<String> notFound, List<String> failed) {
+    }
+
+    // ✅ Several patches for the same id are applied in request order
+    public Result patch(List<Player> patches, BiConsumer<Player, Player> applyPatch) {
+        long start = System.nanoTime();
+        List<String> failedIds = new ArrayList<>();
+        List<String> notFoundIds = new ArrayList<>();
+
+        Map<String, List<Player>> patchesById = new LinkedHashMap<>();
+        for (Player patch : patches) {
+            if (patch == null || patch.getPlayerId() == null || patch.getPlayerId().trim().isEmpty()) {
+                failedIds.add("null-id (missing playerId)");
+            } else {
+                patchesById.computeIfAbsent(patch.getPlayerId(), id -> new ArrayList<>()).add(patch);
+            }
+        }
+
+        // ✅ Ids the filter rules out cannot exist - no need to ask the database
+        List<String> candidateIds = new ArrayList<>(patchesById.size());
+        for (String id : patchesById.keySet()) {
+            if (playerIdFilter.mightContain(id)) {
+                candidateIds.add(id);
+            } else {
+                notFoundIds.add(id);
+            }
+        }
+
+        List<Player> before = new ArrayList<>(candidateIds.size());
+        List<Player> after = new ArrayList<>(candidateIds.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < candidateIds.size(); from += PlayerBulkInserter.LOOKUP_CHUNK) {
+                    List<String> chunk = candidateIds.subList(from,
+                            Math.min(from + PlayerBulkInserter.LOOKUP_CHUNK, candidateIds.size()));
+                    for (Player player : playerRepository.findAllById(chunk)) {
+                        before.add(PlayerCacheInvalidator.snapshot(player));
+                        patchesById.get(player.getPlayerId()).forEach(patch -> applyPatch.accept(player, patch));
+                        after.add(player);
+                    }
+                    entityManager.flush(); // dirty rows go out as update batches
+                    entityManager.clear();
+                }
+            });
+
+            // ✅ Candidates the database did not return do not exist
+            Set<String> found = new HashSet<>();
+            after.forEach(p -> found.add(p.getPlayerId()));
+            candidateIds.stream().filter(id -> !found.contains(id)).forEach(notFoundIds::add);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Bulk patch of {} players rolled back: {}", candidateIds.size(), e.toString());
+            String reason = rootMessage(e);
+            candidateIds.forEach(id -> failedIds.add(id + " (" + reason + ")"));
+            before.clear();
+            after.clear();
+        }
+
+        updated.add(after.size());
+        notFound.add(notFoundIds.size());
+        failed.add(failedIds.size());
+        LOGGER.info("Bulk patch: {} updated, {} not found, {} failed in {} ms",
+                after.size(), notFoundIds.size(), failedIds.size(), (System.nanoTime() - start) / 1_000_000);
+        return new Result(before, after, notFoundIds, failedIds);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.bulk.patch.rows", updated, LongAdder::sum)
+                .tag("result", "updated").description("Players processed by bulk patches")
+                .register(registry);
+        FunctionCounter.builder("player.bulk.patch.rows", notFound, LongAdder::sum)
+                .tag("result", "not_found").description("Players processed by bulk patches")
+                .register(registry);
+        FunctionCounter.builder("player.bulk.patch.rows", failed, LongAdder::sum)
+                .tag("result", "failed").description("Players processed by bulk patches")
+                .register(registry);
+    }
+}
@@ -0,0 +1,244 @@
+package com.app.playerservicejava.service.bulk;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.PlayerDataChangedEvent;
+import com.app.playerservicejava.service.cache.PlayerCacheInvalidator;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Optional group commit for single-player writes ({@code player.write-coalescing.enabled}).
+ * <p>
+ * Callers hand over the repository work of one create/save/patch and block until it is durable.
+ * A single writer thread drains the queue, gathering writes for up to {@code window-ms} or
+ * {@code max-batch} operations, and runs the batch in one transaction followed by one name index
+ * update pass, one cache invalidation pass and one change event. If the batch fails to commit,
+ * each write is replayed in its own transaction so every caller still gets its own result or error.
+ */
+@Component
+public class PlayerWriteCoalescer implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerWriteCoalescer.class);
+
+    @Value("${player.write-coalescing.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${player.write-coalescing.window-ms:2}")
+    private long windowMillis = 2;
+
+    @Value("${player.write-coalescing.max-batch:64}")
+    private int maxBatch = 64;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlayerNameIndex playerNameIndex;
+
+    @Autowired
+    private PlayerCacheInvalidator playerCacheInvalidator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    // ✅ What one write did: before = partition snapshot (null for creates), after = stored row (null = nothing written)
+    public record Change(boolean previousKnown, Player before, Player after) {
+    }
+
+    private record PendingWrite(Supplier<Change> work, CompletableFuture<Change> result) {
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "player-write-coalescer");
+        writer.setDaemon(true);
+        writer.start();
+        LOGGER.info("Write coalescing enabled: window {} ms, max batch {}", windowMillis, maxBatch);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    // ✅ Runs work inside the next group transaction and waits for the commit
+    public Change submit(Supplier<Change> work) {
+        if (!running) {
+            throw new IllegalStateException("Write coalescer is stopped");
+        }
+        PendingWrite write = new PendingWrite(work, new CompletableFuture<>());
+        queue.add(write);
+        if (!running && queue.remove(write)) {
+            // ✅ Stopped while enqueueing - the writer may already have done its final sweep
+            throw new IllegalStateException("Write coalescer is stopped");
+        }
+        try {
+            return write.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMillis);
+                while (batch.size() < maxBatch) {
+                    PendingWrite next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                LOGGER.error("message=Write coalescer batch failed; exception={}", e.toString());
+                batch.forEach(w -> w.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+        PendingWrite left;
+        while ((left = queue.poll()) != null) {
+            left.result().completeExceptionally(new IllegalStateException("Write coalescer is stopped"));
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        List<Change> changes = new ArrayList<>(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(w -> changes.add(w.work().get())));
+        } catch (RuntimeException e) {
+            // ✅ One bad write must not fail its neighbours - replay each in its own transaction
+            fallbacks.increment();
+            LOGGER.warn("Group commit of {} writes failed, replaying one by one: {}", batch.size(), e.toString());
+            changes.clear();
+            List<PendingWrite> succeeded = new ArrayList<>(batch.size());
+            for (PendingWrite write : batch) {
+                try {
+                    changes.add(transactionTemplate.execute(status -> write.work().get()));
+                    succeeded.add(write);
+                } catch (RuntimeException writeError) {
+                    write.result().completeExceptionally(writeError);
+                }
+            }
+            batch.retainAll(succeeded);
+        }
+
+        try {
+            publish(changes);
+        } finally {
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(changes.get(i)); // ✅ committed - callers get their result regardless
+            }
+        }
+        writes.add(batch.size());
+        batches.increment();
+    }
+
+    // ✅ Same post-write upkeep as PlayerService, once for the whole batch. The writes are already
+    // committed, so a failing step is logged and contained - it never turns a stored write into an error
+    private void publish(List<Change> changes) {
+        List<Player> before = new ArrayList<>();
+        List<Player> after = new ArrayList<>();
+        boolean previousKnown = true;
+        for (Change change : changes) {
+            if (change.after() == null) {
+                continue;
+            }
+            try {
+                playerNameIndex.upsert(change.after());
+            } catch (RuntimeException e) {
+                LOGGER.error("message=Name index update failed for {}; exception={}", change.after().getPlayerId(), e.toString());
+            }
+            previousKnown &= change.previousKnown();
+            if (change.before() != null) {
+                before.add(change.before());
+            }
+            after.add(change.after());
+        }
+        if (after.isEmpty()) {
+            return;
+        }
+        try {
+            if (previousKnown) {
+                playerCacheInvalidator.playersChanged(before, after);
+            } else {
+                playerCacheInvalidator.invalidateAll();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("message=Targeted cache invalidation failed, clearing all player caches; exception={}", e.toString());
+            playerCacheInvalidator.invalidateAll();
+        }
+        try {
+            eventPublisher.publishEvent(new PlayerDataChangedEvent(this));
+        } catch (RuntimeException e) {
+            LOGGER.error("message=Player change listener failed after commit; exception={}", e.toString());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.write.coalescer.writes", writes, LongAdder::sum)
+                .description("Single-player writes committed through the coalescer")
+                .register(registry);
+        FunctionCounter.builder("player.write.coalescer.batches", batches, LongAdder::sum)
+                .description("Group transactions committed by the coalescer")
+                .register(registry);
+        FunctionCounter.builder("player.write.coalescer.fallbacks", fallbacks, LongAdder::sum)
+                .description("Group transactions that failed and were replayed write by write")
+                .register(registry);
+        Gauge.builder("player.write.coalescer.queue", queue, BlockingQueue::size)
+                .description("Writes waiting for the next group commit")
+                .register(registry);
+    }
+}
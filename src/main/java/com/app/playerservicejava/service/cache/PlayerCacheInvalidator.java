@@ -0,0 +1,165 @@
+package com.app.playerservicejava.service.cache;
+
+import com.app.playerservicejava.model.Player;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generation-based invalidation for the list caches (playerPages, playerSearch, allPlayers).
+ * <p>
+ * Cache keys embed a generation counter for the partition the entry belongs to: the country filter
+ * for pages and the first {@link #PREFIX_PARTITION_LENGTH} characters for searches. A write bumps
+ * only the partitions the player could appear in before and after the change, so every other cached
+ * page and search result stays hot. Superseded entries are never read again and age out of Caffeine.
+ * Referenced from {@code @Cacheable} keys as {@code @playerCacheInvalidator}.
+ */
+@Component("playerCacheInvalidator")
+public class PlayerCacheInvalidator implements MeterBinder {
+
+    public static final int PREFIX_PARTITION_LENGTH = 2;
+    private static final String ALL_COUNTRIES = "ALL";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final AtomicLong allPlayersGeneration = new AtomicLong();
+    private final Map<String, AtomicLong> countryGenerations = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> prefixGenerations = new ConcurrentHashMap<>();
+
+    private final LongAdder pageInvalidations = new LongAdder();
+    private final LongAdder searchInvalidations = new LongAdder();
+    private final LongAdder allPlayersInvalidations = new LongAdder();
+
+    // ===================== cache keys =====================
+
+    public String pageKey(String birthCountry, Pageable pageable) {
+        String country = countryPartition(birthCountry);
+        return country + "_g" + globalGeneration.get() + "." + generation(countryGenerations, country)
+                + "_" + pageable.getPageNumber() + "_" + pageable.getPageSize();
+    }
+
+    public String searchKey(String namePrefix, Pageable pageable) {
+        String prefix = normalizeName(namePrefix);
+        String partition = prefix.substring(0, Math.min(PREFIX_PARTITION_LENGTH, prefix.length()));
+        return prefix + "_g" + globalGeneration.get() + "." + generation(prefixGenerations, partition)
+                + "_" + pageable.getPageNumber() + "_" + pageable.getPageSize();
+    }
+
+    public String allPlayersKey() {
+        return "all_g" + globalGeneration.get() + "." + allPlayersGeneration.get();
+    }
+
+    // ===================== invalidation =====================
+
+    // ✅ before = state prior to the write (null for creates), after = new state (null for deletes)
+    public void playerChanged(Player before, Player after) {
+        playersChanged(before == null ? List.of() : List.of(before), after == null ? List.of() : List.of(after));
+    }
+
+    // ✅ One pass for a whole batch - each affected partition is bumped once
+    public void playersChanged(Collection<Player> before, Collection<Player> after) {
+        Set<String> countries = new LinkedHashSet<>();
+        Set<String> prefixes = new LinkedHashSet<>();
+        before.forEach(p -> collectPartitions(p, countries, prefixes));
+        after.forEach(p -> collectPartitions(p, countries, prefixes));
+        countries.add(ALL_COUNTRIES); // unfiltered pages contain every player
+
+        countries.forEach(c -> bump(countryGenerations, c, pageInvalidations));
+        prefixes.forEach(p -> bump(prefixGenerations, p, searchInvalidations));
+        allPlayersGeneration.incrementAndGet();
+        allPlayersInvalidations.increment();
+    }
+
+    // ✅ Copy of the fields that decide partitions - taken before an entity is mutated in place
+    public static Player snapshot(Player player) {
+        if (player == null) {
+            return null;
+        }
+        Player copy = new Player();
+        copy.setPlayerId(player.getPlayerId());
+        copy.setBirthCountry(player.getBirthCountry());
+        copy.setFirstName(player.getFirstName());
+        copy.setLastName(player.getLastName());
+        return copy;
+    }
+
+    // ✅ Fallback when the previous state of a player is unknown
+    public void invalidateAll() {
+        globalGeneration.incrementAndGet();
+        pageInvalidations.increment();
+        searchInvalidations.increment();
+        allPlayersInvalidations.increment();
+    }
+
+    public void evictPlayer(String playerId) {
+        Cache players = cacheManager.getCache("players");
+        if (players != null) {
+            players.evict(playerId);
+        }
+    }
+
+    private static void collectPartitions(Player player, Set<String> countries, Set<String> prefixes) {
+        if (player == null) {
+            return;
+        }
+        countries.add(countryPartition(player.getBirthCountry()));
+        for (String name : new String[]{player.getFirstName(), player.getLastName()}) {
+            String normalized = normalizeName(name);
+            // a search for "j" and one for "jo" both see "Jones"
+            for (int length = 1; length <= Math.min(PREFIX_PARTITION_LENGTH, normalized.length()); length++) {
+                prefixes.add(normalized.substring(0, length));
+            }
+        }
+    }
+
+    private static String countryPartition(String birthCountry) {
+        if (birthCountry == null || birthCountry.trim().isEmpty()) {
+            return ALL_COUNTRIES;
+        }
+        return birthCountry.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String normalizeName(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long generation(Map<String, AtomicLong> generations, String partition) {
+        AtomicLong generation = generations.get(partition);
+        return generation == null ? 0 : generation.get();
+    }
+
+    private static void bump(Map<String, AtomicLong> generations, String partition, LongAdder counter) {
+        generations.computeIfAbsent(partition, k -> new AtomicLong()).incrementAndGet();
+        counter.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.cache.invalidations", pageInvalidations, LongAdder::sum)
+                .tag("cache", "playerPages").description("Partition generations bumped by writes")
+                .register(registry);
+        FunctionCounter.builder("player.cache.invalidations", searchInvalidations, LongAdder::sum)
+                .tag("cache", "playerSearch").description("Partition generations bumped by writes")
+                .register(registry);
+        FunctionCounter.builder("player.cache.invalidations", allPlayersInvalidations, LongAdder::sum)
+                .tag("cache", "allPlayers").description("Partition generations bumped by writes")
+                .register(registry);
+    }
+}
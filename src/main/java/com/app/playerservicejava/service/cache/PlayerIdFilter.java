@@ -0,0 +1,227 @@
+package com.app.playerservicejava.service.cache;
+
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.loader.PlayerDataLoadedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bloom filter over every playerId, used to answer "definitely not a player" without a lookup.
+ * <p>
+ * Built from the table after the bootstrap load and updated by PlayerService before each insert.
+ * Deletes are not removed (a Bloom filter can't), which only costs a false positive. Until the
+ * filter is built every id "might exist".
+ * <p>
+ * When it is over capacity it is rebuilt from the table in the background. Ids added while the table
+ * is read are recorded and replayed into the new filter, and the old filter keeps answering for
+ * {@link #RETIRED_GRACE} after the swap, covering ids added just before the rebuild whose rows were
+ * not committed yet when the table was read - so a stored id is never denied.
+ */
+@Component
+public class PlayerIdFilter implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerIdFilter.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 10_000;
+    public static final Duration RETIRED_GRACE = Duration.ofSeconds(60);
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private volatile Bits bits;
+    private volatile Bits retired;          // previous filter, still consulted...
+    private volatile long retiredUntilNanos; // ...until then
+    private volatile Set<String> addedDuringRebuild;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    @EventListener
+    public void onPlayersLoaded(PlayerDataLoadedEvent event) {
+        rebuild(playerRepository::findAllPlayerIds);
+    }
+
+    public void rebuild(Collection<String> playerIds) {
+        rebuild(() -> playerIds);
+    }
+
+    // ✅ Sized for twice the current population so creates have room before a rebuild
+    public synchronized void rebuild(Supplier<Collection<String>> source) {
+        Set<String> added = ConcurrentHashMap.newKeySet();
+        addedDuringRebuild = added;
+        try {
+            Collection<String> playerIds = source.get();
+            long capacity = Math.max(MIN_CAPACITY, (playerIds.size() + added.size()) * 2L);
+            Bits fresh = new Bits(capacity);
+            playerIds.forEach(fresh::put);
+            added.forEach(fresh::put);
+            Bits previous = bits;
+            bits = fresh;
+            added.forEach(fresh::put); // ✅ again - anything recorded while the first pass ran
+            if (previous != null) {
+                retired = previous;
+                retiredUntilNanos = System.nanoTime() + RETIRED_GRACE.toNanos();
+            }
+            LOGGER.info("Built player id filter: {} ids, {} bits, {} hashes",
+                    playerIds.size() + added.size(), fresh.bitCount, fresh.hashes);
+        } finally {
+            addedDuringRebuild = null;
+        }
+    }
+
+    public boolean isReady() {
+        return bits != null;
+    }
+
+    public boolean mightContain(String playerId) {
+        Bits current = bits;
+        if (current == null || playerId == null) {
+            return true;
+        }
+        checks.increment();
+        if (current.mightContain(playerId) || inRetired(playerId)) {
+            return true;
+        }
+        definiteMisses.increment();
+        return false;
+    }
+
+    private boolean inRetired(String playerId) {
+        Bits previous = retired;
+        if (previous == null) {
+            return false;
+        }
+        if (System.nanoTime() - retiredUntilNanos > 0) {
+            retired = null;
+            return false;
+        }
+        return previous.mightContain(playerId);
+    }
+
+    public void add(String playerId) {
+        if (playerId == null) {
+            return;
+        }
+        Set<String> added = addedDuringRebuild; // ✅ recorded before touching bits - see rebuild()
+        if (added != null) {
+            added.add(playerId);
+        }
+        Bits current = bits;
+        if (current == null) {
+            return;
+        }
+        current.put(playerId);
+        if (current.insertions.get() > current.capacity && rebuilding.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    rebuild(playerRepository::findAllPlayerIds);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    // ✅ Called when the filter said "maybe" but the row wasn't there
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.idfilter.checks", checks, LongAdder::sum)
+                .description("Existence checks answered by the player id filter")
+                .register(registry);
+        FunctionCounter.builder("player.idfilter.negatives", definiteMisses, LongAdder::sum)
+                .description("Lookups short-circuited because the id definitely does not exist")
+                .register(registry);
+        FunctionCounter.builder("player.idfilter.false.positives", falsePositives, LongAdder::sum)
+                .description("Ids the filter passed that turned out not to exist")
+                .register(registry);
+        Gauge.builder("player.idfilter.insertions", this, f -> f.bits == null ? 0 : f.bits.insertions.get())
+                .description("Ids added to the current filter")
+                .register(registry);
+    }
+
+    private static final class Bits {
+        private final long capacity;
+        private final long bitCount;
+        private final int hashes;
+        private final AtomicLongArray words;
+        private final AtomicLong insertions = new AtomicLong();
+
+        Bits(long capacity) {
+            this.capacity = capacity;
+            long m = (long) Math.ceil(-capacity * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+            this.hashes = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.words = new AtomicLongArray((int) (bitCount / 64));
+        }
+
+        void put(String id) {
+            long hash = hash64(id);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long old;
+                do {
+                    old = words.get(word);
+                } while ((old & mask) == 0 && !words.compareAndSet(word, old, old | mask));
+            }
+            insertions.incrementAndGet();
+        }
+
+        boolean mightContain(String id) {
+            long hash = hash64(id);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a over the UTF-8 bytes followed by a murmur3 fmix64 finaliser
+        private static long hash64(String id) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : id.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
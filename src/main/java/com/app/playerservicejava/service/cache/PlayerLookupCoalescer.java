@@ -0,0 +1,83 @@
+package com.app.playerservicejava.service.cache;
+
+import com.app.playerservicejava.model.Player;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight loading for player lookups that missed the "players" cache.
+ * The first caller for an id runs the load; callers arriving while it is in flight wait on the
+ * same future instead of hitting the database again.
+ */
+@Component
+public class PlayerLookupCoalescer implements MeterBinder {
+
+    private final Map<String, CompletableFuture<Optional<Player>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public Optional<Player> load(String playerId, Supplier<Optional<Player>> loader) {
+        CompletableFuture<Optional<Player>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<Player>> existing = inFlight.putIfAbsent(playerId, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        loads.increment();
+        try {
+            Optional<Player> result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(playerId, mine);
+        }
+    }
+
+    private static Optional<Player> await(CompletableFuture<Optional<Player>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.lookup.loads", loads, LongAdder::sum)
+                .description("Player lookups that went to the database")
+                .register(registry);
+        FunctionCounter.builder("player.lookup.coalesced", coalesced, LongAdder::sum)
+                .description("Player lookups that joined an in-flight load instead of querying")
+                .register(registry);
+        Gauge.builder("player.lookup.inflight", inFlight, Map::size)
+                .description("Player loads currently in flight")
+                .register(registry);
+    }
+}
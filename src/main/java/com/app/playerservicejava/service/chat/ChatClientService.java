@@ -6,6 +6,7 @@ import io.github.ollama4j.exceptions.OllamaBaseException;
 import io.github.ollama4j.models.Model;
 import io.github.ollama4j.models.OllamaResult;
 import io.github.ollama4j.types.OllamaModelType;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,7 @@ import java.net.URISyntaxException;
 import java.util.List;
 
 @Service
+@Timed("player.chat.ollama")  // ✅ Ollama round trips per method, failures tagged by exception
 public class ChatClientService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChatClientService.class);
     private static final List<String> BLOCKED_PATTERNS = List.of(
@@ -28,6 +30,17 @@ public class ChatClientService {
     @Autowired
     private OllamaAPI ollamaAPI;
 
+    // ✅ First blocked phrase the prompt contains (case-insensitive), or null if it is clean
+    public static String findBlockedPattern(String prompt) {
+        String lower = prompt.toLowerCase();
+        for (String blocked : BLOCKED_PATTERNS) {
+            if (lower.contains(blocked)) {
+                return blocked;
+            }
+        }
+        return null;
+    }
+
     public List<Model> listModels() throws OllamaBaseException, IOException, URISyntaxException, InterruptedException {
         List<Model> models = ollamaAPI.listModels();
         return models;
@@ -60,12 +73,9 @@ public class ChatClientService {
         }
 
         // Prompt injection check
-        String lower = prompt.toLowerCase();
-        for (String blocked : BLOCKED_PATTERNS) {
-            if (lower.contains(blocked)) {
-                LOGGER.warn("Blocked prompt injection attempt: {}", prompt);
-                throw new IllegalArgumentException("Invalid prompt detected");
-            }
+        if (findBlockedPattern(prompt) != null) {
+            LOGGER.warn("Blocked prompt injection attempt: {}", prompt);
+            throw new IllegalArgumentException("Invalid prompt detected");
         }
 
         LOGGER.info("Sending custom prompt to Ollama: {}", prompt);
@@ -89,12 +99,9 @@ public class ChatClientService {
         }
 
         // Injection check
-        String lower = prompt.toLowerCase();
-        for (String blocked : BLOCKED_PATTERNS) {
-            if (lower.contains(blocked)) {
-                LOGGER.warn("Blocked prompt injection in session {}: {}", sessionId, prompt);
-                throw new IllegalArgumentException("Invalid prompt detected");
-            }
+        if (findBlockedPattern(prompt) != null) {
+            LOGGER.warn("Blocked prompt injection in session {}: {}", sessionId, prompt);
+            throw new IllegalArgumentException("Invalid prompt detected");
         }
 
         // Build prompt with full conversation history
@@ -1,6 +1,10 @@
 package com.app.playerservicejava.service.chat;
 
 import com.app.playerservicejava.model.Message;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -8,9 +12,10 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
-public class ChatHistoryService {
+public class ChatHistoryService implements MeterBinder {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChatHistoryService.class);
 
@@ -23,11 +28,19 @@ public class ChatHistoryService {
     // sessionId → last activity time (for TTL)
     private final Map<String, Instant> sessionLastAccess = new ConcurrentHashMap<>();
 
+    private final LongAdder sessionsStarted = new LongAdder();
+    private final LongAdder sessionsExpired = new LongAdder();
+    private final LongAdder sessionsCleared = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+
     // ✅ Add a message to session history
     public void addMessage(String sessionId, Message message) {
         evictExpiredSessions(); // cleanup on every write
 
-        sessionHistory.computeIfAbsent(sessionId, k -> new ArrayList<>());
+        sessionHistory.computeIfAbsent(sessionId, k -> {
+            sessionsStarted.increment();
+            return new ArrayList<>();
+        });
         List<Message> history = sessionHistory.get(sessionId);
 
         // Trim if too large
@@ -36,6 +49,7 @@ public class ChatHistoryService {
         }
 
         history.add(message);
+        messages.increment();
         sessionLastAccess.put(sessionId, Instant.now());
         LOGGER.debug("Session {} now has {} messages", sessionId, history.size());
     }
@@ -48,7 +62,9 @@ public class ChatHistoryService {
 
     // ✅ Clear a specific session
     public void clearSession(String sessionId) {
-        sessionHistory.remove(sessionId);
+        if (sessionHistory.remove(sessionId) != null) {
+            sessionsCleared.increment();
+        }
         sessionLastAccess.remove(sessionId);
         LOGGER.info("Cleared session: {}", sessionId);
     }
@@ -63,11 +79,32 @@ public class ChatHistoryService {
         Instant cutoff = Instant.now().minusSeconds(SESSION_TTL_MINUTES * 60);
         sessionLastAccess.entrySet().removeIf(entry -> {
             if (entry.getValue().isBefore(cutoff)) {
-                sessionHistory.remove(entry.getKey());
+                if (sessionHistory.remove(entry.getKey()) != null) {
+                    sessionsExpired.increment();
+                }
                 LOGGER.info("Evicted expired session: {}", entry.getKey());
                 return true;
             }
             return false;
         });
     }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("player.chat.sessions.active", this, ChatHistoryService::getActiveSessionCount)
+                .description("Chat sessions currently holding history")
+                .register(registry);
+        FunctionCounter.builder("player.chat.sessions", sessionsStarted, LongAdder::sum)
+                .tag("event", "started").description("Chat session lifecycle events")
+                .register(registry);
+        FunctionCounter.builder("player.chat.sessions", sessionsExpired, LongAdder::sum)
+                .tag("event", "expired").description("Chat session lifecycle events")
+                .register(registry);
+        FunctionCounter.builder("player.chat.sessions", sessionsCleared, LongAdder::sum)
+                .tag("event", "cleared").description("Chat session lifecycle events")
+                .register(registry);
+        FunctionCounter.builder("player.chat.messages", messages, LongAdder::sum)
+                .description("Messages added to chat session history")
+                .register(registry);
+    }
 }
@@ -0,0 +1,192 @@
+package com.app.playerservicejava.service.export;
+
+import com.app.playerservicejava.model.Player;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact columnar export: rows are buffered into row groups of {@link #ROW_GROUP_SIZE} and each
+ * group is written column by column. Layout (all integers big-endian):
+ * <pre>
+ * file     := "PLCB" u8:version varint:columns (string:name u8:kind)* group* varint:0 i64:totalRows
+ * group    := varint:rows block*            -- one block per column, in header order
+ * block    := u8:encoding payload
+ *   0 TEXT  := bitmap (string)*             -- one string per set bit
+ *   1 DICT  := varint:n string*n varint*rows -- per-group dictionary; code 0 = null, k = entry k-1
+ *   2 INT   := bitmap i32*                  -- one int per set bit
+ * bitmap   := ceil(rows/8) bytes, bit (i % 8) of byte (i / 8) set when row i is not null
+ * string   := varint:byteLength UTF-8 bytes
+ * </pre>
+ * INT columns whose group holds a value that is not a plain integer fall back to TEXT for that group.
+ * Memory is bounded by one row group.
+ */
+public class PlayerColumnarWriter implements PlayerExportWriter {
+
+    public static final byte[] MAGIC = {'P', 'L', 'C', 'B'};
+    public static final int VERSION = 1;
+    public static final int ROW_GROUP_SIZE = 8192;
+
+    public static final int ENCODING_TEXT = 0;
+    public static final int ENCODING_DICTIONARY = 1;
+    public static final int ENCODING_INT = 2;
+
+    private static final PlayerField[] FIELDS = PlayerField.values();
+
+    private final DataOutputStream out;
+    private final String[][] group = new String[FIELDS.length][ROW_GROUP_SIZE];
+    private final int[] ints = new int[ROW_GROUP_SIZE];
+    private int buffered;
+    private long rows;
+
+    public PlayerColumnarWriter(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        writeVarint(FIELDS.length);
+        for (PlayerField field : FIELDS) {
+            writeString(field.getJsonName());
+            out.writeByte(field.getKind().ordinal());
+        }
+    }
+
+    @Override
+    public void writeRow(Player player) throws IOException {
+        for (int c = 0; c < FIELDS.length; c++) {
+            group[c][buffered] = FIELDS[c].get(player);
+        }
+        buffered++;
+        rows++;
+        if (buffered == ROW_GROUP_SIZE) {
+            writeGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writeGroup();
+        writeVarint(0);
+        out.writeLong(rows);
+        out.flush();
+    }
+
+    @Override
+    public long getRowCount() {
+        return rows;
+    }
+
+    private void writeGroup() throws IOException {
+        if (buffered == 0) {
+            return;
+        }
+        writeVarint(buffered);
+        for (int c = 0; c < FIELDS.length; c++) {
+            String[] values = group[c];
+            switch (FIELDS[c].getKind()) {
+                case DICTIONARY -> writeDictionaryBlock(values);
+                case INT -> {
+                    if (parseInts(values)) {
+                        writeIntBlock(values);
+                    } else {
+                        writeTextBlock(values);
+                    }
+                }
+                default -> writeTextBlock(values);
+            }
+            Arrays.fill(values, 0, buffered, null);
+        }
+        buffered = 0;
+    }
+
+    private void writeTextBlock(String[] values) throws IOException {
+        out.writeByte(ENCODING_TEXT);
+        writeBitmap(values);
+        for (int r = 0; r < buffered; r++) {
+            if (values[r] != null) {
+                writeString(values[r]);
+            }
+        }
+    }
+
+    private void writeDictionaryBlock(String[] values) throws IOException {
+        Map<String, Integer> codes = new HashMap<>();
+        String[] entries = new String[buffered];
+        for (int r = 0; r < buffered; r++) {
+            String value = values[r];
+            if (value != null && !codes.containsKey(value)) {
+                entries[codes.size()] = value;
+                codes.put(value, codes.size() + 1);
+            }
+        }
+        out.writeByte(ENCODING_DICTIONARY);
+        writeVarint(codes.size());
+        for (int i = 0; i < codes.size(); i++) {
+            writeString(entries[i]);
+        }
+        for (int r = 0; r < buffered; r++) {
+            writeVarint(values[r] == null ? 0 : codes.get(values[r]));
+        }
+    }
+
+    private void writeIntBlock(String[] values) throws IOException {
+        out.writeByte(ENCODING_INT);
+        writeBitmap(values);
+        for (int r = 0; r < buffered; r++) {
+            if (values[r] != null) {
+                out.writeInt(ints[r]);
+            }
+        }
+    }
+
+    // ✅ Parses the group into ints[]; false if any non-null value is not a plain integer
+    private boolean parseInts(String[] values) {
+        for (int r = 0; r < buffered; r++) {
+            String value = values[r];
+            if (value == null) {
+                continue;
+            }
+            try {
+                ints[r] = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeBitmap(String[] values) throws IOException {
+        for (int from = 0; from < buffered; from += 8) {
+            int bits = 0;
+            for (int i = 0; i < 8 && from + i < buffered; i++) {
+                if (values[from + i] != null) {
+                    bits |= 1 << i;
+                }
+            }
+            out.writeByte(bits);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
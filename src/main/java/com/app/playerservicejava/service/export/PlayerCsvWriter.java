@@ -0,0 +1,178 @@
+package com.app.playerservicejava.service.export;
+
+import com.app.playerservicejava.model.Player;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes players as RFC 4180 CSV straight into a byte buffer.
+ * <p>
+ * Fields are quoted only when they contain a comma, quote or line break, and are UTF-8 encoded
+ * char by char into a reusable buffer - no per-row Strings, joins or Writer/encoder layers.
+ * Not thread-safe; one writer per export.
+ */
+public class PlayerCsvWriter implements PlayerExportWriter, Flushable {
+
+    public static final String HEADER = "playerId,firstName,lastName,birthYear,birthMonth,birthDay,"
+            + "birthCountry,birthState,birthCity,weight,height,bats,throwsHand,"
+            + "debut,finalGame,retroId,bbrefId";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private long rows;
+
+    public PlayerCsvWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writeText(HEADER);
+        writeByte('\n');
+    }
+
+    // ✅ Same column order as HEADER
+    @Override
+    public void writeRow(Player player) throws IOException {
+        writeField(player.getPlayerId());
+        writeByte(',');
+        writeField(player.getFirstName());
+        writeByte(',');
+        writeField(player.getLastName());
+        writeByte(',');
+        writeField(player.getBirthYear());
+        writeByte(',');
+        writeField(player.getBirthMonth());
+        writeByte(',');
+        writeField(player.getBirthDay());
+        writeByte(',');
+        writeField(player.getBirthCountry());
+        writeByte(',');
+        writeField(player.getBirthState());
+        writeByte(',');
+        writeField(player.getBirthCity());
+        writeByte(',');
+        writeField(player.getWeight());
+        writeByte(',');
+        writeField(player.getHeight());
+        writeByte(',');
+        writeField(player.getBats());
+        writeByte(',');
+        writeField(player.getThrowStats());
+        writeByte(',');
+        writeField(player.getDebut());
+        writeByte(',');
+        writeField(player.getFinalGame());
+        writeByte(',');
+        writeField(player.getRetroId());
+        writeByte(',');
+        writeField(player.getBbrefId());
+        writeByte('\n');
+        rows++;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        flush();
+    }
+
+    @Override
+    public long getRowCount() {
+        return rows;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        out.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writeText(value);
+            return;
+        }
+        writeByte('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writeByte('"');
+            }
+            i = writeChar(value, i);
+        }
+        writeByte('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeText(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            i = writeChar(value, i);
+        }
+    }
+
+    // ✅ UTF-8 encodes the char at i (and its low surrogate, if any); returns the last index consumed
+    private int writeChar(String value, int i) throws IOException {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+            writeByte(c);
+            return i;
+        }
+        ensure(4);
+        if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+            int cp = Character.toCodePoint(c, value.charAt(++i));
+            buffer[position++] = (byte) (0xF0 | (cp >> 18));
+            buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+            buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            buffer[position++] = '?'; // unpaired surrogate, same as String.getBytes(UTF_8)
+        } else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return i;
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,264 @@
+package com.app.playerservicejava.service.export;
+
+import com.app.playerservicejava.service.PlayerDataChangedEvent;
+import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.loader.PlayerDataLoadedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Materialised copy of the full CSV export on local disk, plain and gzipped.
+ * <p>
+ * Built once after the bootstrap load and rebuilt in the background {@code player.export.rebuild-delay-ms}
+ * after the last write: each write re-arms the timer, but a steady stream of writes can't hold a rebuild
+ * off for more than {@value #MAX_DELAY_FACTOR} times that delay. Writes arriving during a build trigger
+ * one more build. Each build goes to new
+ * versioned files that are swapped in atomically. The version it replaces stays on disk for
+ * {@code player.export.retired-grace-ms}, because a request may have picked it from {@link #current}
+ * and not opened it yet (Tomcat's sendfile opens it only after the servlet returns); once open, the
+ * unlink doesn't disturb the download. The ETag is derived from a SHA-256 of the content, so an
+ * unchanged table keeps its ETag.
+ */
+@Component
+public class PlayerExportArtifact implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerExportArtifact.class);
+
+    private static final String FILE_PREFIX = "players-";
+    static final int MAX_DELAY_FACTOR = 10;
+
+    @Value("${player.export.artifact-enabled:true}")
+    private boolean enabled;
+
+    @Value("${player.export.dir:data/export}")
+    private String dir;
+
+    @Value("${player.export.rebuild-delay-ms:5000}")
+    private long rebuildDelayMillis;
+
+    @Value("${player.export.retired-grace-ms:60000}")
+    private long retiredGraceMillis = 60_000;
+
+    @Autowired
+    private PlayerService playerService;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "player-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ScheduledFuture<?> pending;        // guarded by this
+    private long firstUnbuiltWriteNanos = -1;  // guarded by this
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean loaded;
+    private volatile Version current;
+
+    private final LongAdder builds = new LongAdder();
+    private volatile long lastBuildMillis;
+
+    // ✅ One representation of the export: the file, its size and a strong validator
+    public record ExportFile(Path path, long length, String etag, Instant lastModified) {
+    }
+
+    private record Version(ExportFile plain, ExportFile gzip) {
+    }
+
+    @EventListener
+    public void onPlayersLoaded(PlayerDataLoadedEvent event) {
+        loaded = true;
+        schedule(0);
+    }
+
+    @EventListener
+    public void onPlayersChanged(PlayerDataChangedEvent event) {
+        if (loaded) {
+            schedule(rebuildDelayMillis);
+        }
+    }
+
+    // ✅ Empty until the first build finishes (or when disabled) - callers fall back to a live export
+    public Optional<ExportFile> current(boolean gzip) {
+        Version version = current;
+        if (!enabled || version == null) {
+            return Optional.empty();
+        }
+        return Optional.of(gzip ? version.gzip() : version.plain());
+    }
+
+    // ✅ Debounce: (re)arm the rebuild delayMillis from now, capped relative to the first write it covers
+    private synchronized void schedule(long delayMillis) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (firstUnbuiltWriteNanos < 0) {
+            firstUnbuiltWriteNanos = now;
+        }
+        long latest = firstUnbuiltWriteNanos + TimeUnit.MILLISECONDS.toNanos(delayMillis * MAX_DELAY_FACTOR);
+        long delayNanos = Math.max(0, Math.min(TimeUnit.MILLISECONDS.toNanos(delayMillis), latest - now));
+        if (pending != null) {
+            pending.cancel(false); // a build already running finishes; this one then follows it
+        }
+        pending = executor.schedule(this::rebuild, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void rebuild() {
+        synchronized (this) {
+            firstUnbuiltWriteNanos = -1; // writes from here on need another build
+        }
+        long start = System.nanoTime();
+        try {
+            Path directory = Paths.get(dir);
+            Files.createDirectories(directory);
+            String name = FILE_PREFIX + sequence.incrementAndGet() + ".csv";
+            Path plainTmp = directory.resolve(name + ".tmp");
+            Path gzipTmp = directory.resolve(name + ".gz.tmp");
+
+            MessageDigest plainDigest = sha256();
+            MessageDigest gzipDigest = sha256();
+            try (OutputStream plain = new DigestOutputStream(
+                         new BufferedOutputStream(Files.newOutputStream(plainTmp), 64 * 1024), plainDigest);
+                 OutputStream gzip = new GZIPOutputStream(new DigestOutputStream(
+                         new BufferedOutputStream(Files.newOutputStream(gzipTmp), 64 * 1024), gzipDigest), 64 * 1024);
+                 OutputStream both = new TeeOutputStream(plain, gzip)) {
+                playerService.streamAllPlayers(both);
+            }
+
+            Instant now = Instant.now();
+            ExportFile plainFile = publish(plainTmp, directory.resolve(name), plainDigest, "", now);
+            ExportFile gzipFile = publish(gzipTmp, directory.resolve(name + ".gz"), gzipDigest, "-gz", now);
+            Version previous = current;
+            current = new Version(plainFile, gzipFile);
+            if (previous == null) {
+                deleteOtherVersions(directory, name); // left over from an earlier run - nobody is serving them
+            } else {
+                executor.schedule(() -> retire(previous), retiredGraceMillis, TimeUnit.MILLISECONDS);
+            }
+
+            builds.increment();
+            lastBuildMillis = (System.nanoTime() - start) / 1_000_000;
+            LOGGER.info("Rebuilt export artifact {} ({} bytes, {} gzipped) in {} ms",
+                    name, plainFile.length(), gzipFile.length(), lastBuildMillis);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("message=Export artifact rebuild failed; exception={}", e.toString());
+        }
+    }
+
+    private static ExportFile publish(Path tmp, Path target, MessageDigest digest, String suffix, Instant builtAt)
+            throws IOException {
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        String etag = "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + suffix + "\"";
+        return new ExportFile(target, Files.size(target), etag, builtAt);
+    }
+
+    // ✅ Unlinking is safe on Linux while a download still has the old file open
+    private static void retire(Version version) {
+        for (ExportFile file : new ExportFile[]{version.plain(), version.gzip()}) {
+            try {
+                Files.deleteIfExists(file.path());
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete retired export file {}: {}", file.path(), e.toString());
+            }
+        }
+    }
+
+    private static void deleteOtherVersions(Path directory, String keep) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (!name.equals(keep) && !name.equals(keep + ".gz")) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.export.artifact.builds", builds, LongAdder::sum)
+                .description("Times the export artifact was rebuilt")
+                .register(registry);
+        Gauge.builder("player.export.artifact.build.duration", this, a -> a.lastBuildMillis)
+                .description("Milliseconds taken by the last artifact build")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("player.export.artifact.bytes", this,
+                        a -> a.current == null ? 0 : a.current.plain().length())
+                .description("Size of the current uncompressed export artifact")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static final class TeeOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+    }
+}
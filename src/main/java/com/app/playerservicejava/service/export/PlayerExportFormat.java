@@ -0,0 +1,77 @@
+package com.app.playerservicejava.service.export;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Formats offered by /v1/players/export, chosen with ?format= or the Accept header.
+ */
+public enum PlayerExportFormat {
+
+    CSV("csv", "text/csv", "players.csv"),
+    NDJSON("ndjson", "application/x-ndjson", "players.ndjson"),
+    COLUMNAR("columnar", "application/vnd.players.columnar", "players.plcb");
+
+    private final String parameter;
+    private final String mediaType;
+    private final String fileName;
+
+    PlayerExportFormat(String parameter, String mediaType, String fileName) {
+        this.parameter = parameter;
+        this.mediaType = mediaType;
+        this.fileName = fileName;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public PlayerExportWriter newWriter(OutputStream out) throws IOException {
+        return switch (this) {
+            case CSV -> new PlayerCsvWriter(out);
+            case NDJSON -> new PlayerNdjsonWriter(out);
+            case COLUMNAR -> new PlayerColumnarWriter(out);
+        };
+    }
+
+    public static Optional<PlayerExportFormat> fromParameter(String value) {
+        for (PlayerExportFormat format : values()) {
+            if (format.parameter.equals(value.trim().toLowerCase(Locale.ROOT))) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // ✅ First supported type in quality order; CSV for */*, a missing header or anything unknown
+    public static PlayerExportFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return CSV;
+        }
+        try {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted); // MediaType ranks by quality first
+            for (MediaType type : accepted) {
+                for (PlayerExportFormat format : values()) {
+                    if (type.isConcrete() && type.isCompatibleWith(MediaType.parseMediaType(format.mediaType))) {
+                        return format;
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return CSV;
+        }
+        return CSV;
+    }
+}
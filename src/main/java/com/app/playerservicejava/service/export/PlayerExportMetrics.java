@@ -0,0 +1,46 @@
+package com.app.playerservicejava.service.export;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Row counts and throughput of exports streamed from the database, per format. Builds of the
+ * {@link PlayerExportArtifact} go through the same path and are counted; downloads of the built file are not.
+ */
+@Component
+public class PlayerExportMetrics implements MeterBinder {
+
+    private final Map<PlayerExportFormat, LongAdder> rows = new EnumMap<>(PlayerExportFormat.class);
+    private volatile double lastRowsPerSecond;
+
+    public PlayerExportMetrics() {
+        for (PlayerExportFormat format : PlayerExportFormat.values()) {
+            rows.put(format, new LongAdder());
+        }
+    }
+
+    public void streamed(PlayerExportFormat format, long rowCount, long elapsedNanos) {
+        rows.get(format).add(rowCount);
+        if (elapsedNanos > 0) {
+            lastRowsPerSecond = rowCount * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        rows.forEach((format, count) -> FunctionCounter.builder("player.export.rows", count, LongAdder::sum)
+                .tag("format", format.name().toLowerCase())
+                .description("Rows streamed by database-backed exports")
+                .register(registry));
+        Gauge.builder("player.export.rows.per.second", this, m -> m.lastRowsPerSecond)
+                .description("Throughput of the last database-backed export")
+                .register(registry);
+    }
+}
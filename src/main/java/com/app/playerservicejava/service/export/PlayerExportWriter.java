@@ -0,0 +1,21 @@
+package com.app.playerservicejava.service.export;
+
+import com.app.playerservicejava.model.Player;
+
+import java.io.IOException;
+
+/**
+ * A streaming encoder for one export format. Rows are written one at a time and nothing but the
+ * current row (or row group) is held, so an export runs in constant memory.
+ * {@link #finish()} writes any trailer and flushes, but never closes the underlying stream.
+ */
+public interface PlayerExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void writeRow(Player player) throws IOException;
+
+    void finish() throws IOException;
+
+    long getRowCount();
+}
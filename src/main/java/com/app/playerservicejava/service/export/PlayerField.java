@@ -0,0 +1,88 @@
+package com.app.playerservicejava.service.export;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.loader.PlayerBatchWriter;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Every column of a Player, in table order (the same order as {@link PlayerBatchWriter#COLUMNS}),
+ * with the JSON property name the REST API uses and the shape the columnar export stores it in.
+ */
+public enum PlayerField {
+
+    PLAYER_ID("playerId", Player::getPlayerId, Player::setPlayerId, Kind.TEXT),
+    BIRTH_YEAR("birthYear", Player::getBirthYear, Player::setBirthYear, Kind.INT),
+    BIRTH_MONTH("birthMonth", Player::getBirthMonth, Player::setBirthMonth, Kind.INT),
+    BIRTH_DAY("birthDay", Player::getBirthDay, Player::setBirthDay, Kind.INT),
+    BIRTH_COUNTRY("birthCountry", Player::getBirthCountry, Player::setBirthCountry, Kind.DICTIONARY),
+    BIRTH_STATE("birthState", Player::getBirthState, Player::setBirthState, Kind.DICTIONARY),
+    BIRTH_CITY("birthCity", Player::getBirthCity, Player::setBirthCity, Kind.DICTIONARY),
+    DEATH_YEAR("deathYear", Player::getDeathYear, Player::setDeathYear, Kind.INT),
+    DEATH_MONTH("deathMonth", Player::getDeathMonth, Player::setDeathMonth, Kind.INT),
+    DEATH_DAY("deathDay", Player::getDeathDay, Player::setDeathDay, Kind.INT),
+    DEATH_COUNTRY("deathCountry", Player::getDeathCountry, Player::setDeathCountry, Kind.DICTIONARY),
+    DEATH_STATE("deathState", Player::getDeathState, Player::setDeathState, Kind.DICTIONARY),
+    DEATH_CITY("deathCity", Player::getDeathCity, Player::setDeathCity, Kind.DICTIONARY),
+    FIRST_NAME("firstName", Player::getFirstName, Player::setFirstName, Kind.TEXT),
+    LAST_NAME("lastName", Player::getLastName, Player::setLastName, Kind.TEXT),
+    GIVEN_NAME("givenName", Player::getGivenName, Player::setGivenName, Kind.TEXT),
+    WEIGHT("weight", Player::getWeight, Player::setWeight, Kind.INT),
+    HEIGHT("height", Player::getHeight, Player::setHeight, Kind.INT),
+    BATS("bats", Player::getBats, Player::setBats, Kind.DICTIONARY),
+    THROWS("throwStats", Player::getThrowStats, Player::setThrowStats, Kind.DICTIONARY),
+    DEBUT("debut", Player::getDebut, Player::setDebut, Kind.TEXT),
+    FINAL_GAME("finalGame", Player::getFinalGame, Player::setFinalGame, Kind.TEXT),
+    RETRO_ID("retroId", Player::getRetroId, Player::setRetroId, Kind.TEXT),
+    BBREF_ID("bbrefId", Player::getBbrefId, Player::setBbrefId, Kind.TEXT);
+
+    // ✅ Columnar encoding hint: TEXT = free text, DICTIONARY = few distinct values, INT = whole numbers
+    // (every field is a String on Player; INT groups holding a non-integer fall back to TEXT)
+    public enum Kind { TEXT, DICTIONARY, INT }
+
+    private final String jsonName;
+    private final Function<Player, String> accessor;
+    private final BiConsumer<Player, String> mutator;
+    private final Kind kind;
+
+    PlayerField(String jsonName, Function<Player, String> accessor, BiConsumer<Player, String> mutator, Kind kind) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+        this.mutator = mutator;
+        this.kind = kind;
+    }
+
+    // ✅ Matches API property names, PLAYERS column names (the Player.csv header) and the CSV export header
+    public static Optional<PlayerField> fromHeader(String header) {
+        String key = header == null ? "" : header.trim().toLowerCase(Locale.ROOT);
+        if (key.equals("throwshand")) {
+            return Optional.of(THROWS);
+        }
+        for (PlayerField field : values()) {
+            if (field.jsonName.toLowerCase(Locale.ROOT).equals(key)
+                    || PlayerBatchWriter.COLUMNS.get(field.ordinal()).toLowerCase(Locale.ROOT).equals(key)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String get(Player player) {
+        return accessor.apply(player);
+    }
+
+    public void set(Player player, String value) {
+        mutator.accept(player, value);
+    }
+}
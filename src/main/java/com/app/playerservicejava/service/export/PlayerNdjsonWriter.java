@@ -0,0 +1,61 @@
+package com.app.playerservicejava.service.export;
+
+import com.app.playerservicejava.model.Player;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Newline-delimited JSON: one player object per line, with the same property names (and nulls)
+ * as the REST API. Written field by field through a Jackson streaming generator.
+ */
+public class PlayerNdjsonWriter implements PlayerExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private static final PlayerField[] FIELDS = PlayerField.values();
+
+    private final JsonGenerator generator;
+    private long rows;
+
+    public PlayerNdjsonWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON has no header line
+    }
+
+    @Override
+    public void writeRow(Player player) throws IOException {
+        generator.writeStartObject();
+        for (PlayerField field : FIELDS) {
+            String value = field.get(player);
+            if (value == null) {
+                generator.writeNullField(field.getJsonName());
+            } else {
+                generator.writeStringField(field.getJsonName(), value);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        rows++;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.close(); // flushes; the target stays open (AUTO_CLOSE_TARGET disabled)
+    }
+
+    @Override
+    public long getRowCount() {
+        return rows;
+    }
+}
@@ -0,0 +1,38 @@
+package com.app.playerservicejava.service.ingest;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.Optional;
+
+/**
+ * Upload formats accepted by import jobs, selected by the request Content-Type.
+ */
+public enum ImportFormat {
+
+    CSV(MediaType.parseMediaType("text/csv")),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"));
+
+    private final MediaType mediaType;
+
+    ImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static Optional<ImportFormat> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            for (ImportFormat format : values()) {
+                if (type.isConcrete() && format.mediaType.isCompatibleWith(type)) {
+                    return Optional.of(format);
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+}
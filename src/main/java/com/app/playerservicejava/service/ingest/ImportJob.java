@@ -0,0 +1,146 @@
+package com.app.playerservicejava.service.ingest;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * State of one asynchronous bulk import. Updated by the worker running it, read by pollers and
+ * SSE subscribers; every accessor is synchronized and {@link #toMap()} returns a consistent snapshot.
+ */
+public class ImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    // ✅ Failure messages beyond this are counted but not kept
+    static final int MAX_REPORTED_FAILURES = 1000;
+
+    private final String id;
+    private final ImportFormat format;
+    private final Instant createdAt = Instant.now();
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    private Status status = Status.QUEUED;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long bytesReceived;
+    private long rowsRead;
+    private long rowsCreated;
+    private long rowsFailed;
+    private String error;
+    private final List<Map<String, Object>> chunks = new ArrayList<>();
+    private final List<String> failures = new ArrayList<>();
+
+    public ImportJob(String id, ImportFormat format) {
+        this.id = id;
+        this.format = format;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    synchronized void received(long bytes) {
+        bytesReceived = bytes;
+    }
+
+    synchronized void started() {
+        status = Status.RUNNING;
+        startedAt = Instant.now();
+    }
+
+    synchronized void chunkCommitted(int rows, List<String> createdIds, List<String> failedIds) {
+        rowsRead += rows;
+        rowsCreated += createdIds.size();
+        rowsFailed += failedIds.size();
+        for (String failure : failedIds) {
+            if (failures.size() >= MAX_REPORTED_FAILURES) {
+                break;
+            }
+            failures.add(failure);
+        }
+        Map<String, Object> chunk = new LinkedHashMap<>();
+        chunk.put("chunk", chunks.size() + 1);
+        chunk.put("rows", rows);
+        chunk.put("created", createdIds.size());
+        chunk.put("failed", failedIds.size());
+        chunk.put("status", failedIds.isEmpty() ? "COMMITTED" : createdIds.isEmpty() ? "REJECTED" : "PARTIAL");
+        chunks.add(chunk);
+    }
+
+    synchronized void completed() {
+        status = Status.COMPLETED;
+        finishedAt = Instant.now();
+    }
+
+    synchronized void failed(String message) {
+        status = Status.FAILED;
+        error = message;
+        finishedAt = Instant.now();
+    }
+
+    public synchronized Map<String, Object> toMap() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("jobId", id);
+        body.put("format", format.name());
+        body.put("status", status.name());
+        body.put("createdAt", createdAt.toString());
+        body.put("startedAt", startedAt == null ? null : startedAt.toString());
+        body.put("finishedAt", finishedAt == null ? null : finishedAt.toString());
+        body.put("bytesReceived", bytesReceived);
+        body.put("rowsRead", rowsRead);
+        body.put("rowsCreated", rowsCreated);
+        body.put("rowsFailed", rowsFailed);
+        body.put("chunks", new ArrayList<>(chunks));
+        body.put("failures", new ArrayList<>(failures));
+        body.put("failuresTruncated", rowsFailed > failures.size());
+        body.put("error", error);
+        return body;
+    }
+
+    // ===================== SSE =====================
+
+    public void subscribe(SseEmitter emitter) {
+        subscribers.add(emitter);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        publish(); // current state straight away; completes the emitter if the job is already done
+    }
+
+    void publish() {
+        Map<String, Object> snapshot = toMap();
+        boolean finished = isFinished();
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name("progress").data(snapshot));
+                if (finished) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(emitter); // client went away
+            }
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.app.playerservicejava.service.ingest;
+
+import com.app.playerservicejava.config.ImportQueueFullException;
+import com.app.playerservicejava.config.ImportTooLargeException;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.export.PlayerField;
+import com.app.playerservicejava.service.loader.CsvLineParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Asynchronous bulk imports of CSV or NDJSON uploads.
+ * <p>
+ * The request body is spooled to disk as it arrives (never deserialised in memory) and a job id
+ * is returned straight away. A bounded pool of {@code player.import.workers} threads with a queue of
+ * {@code player.import.queue-capacity} jobs parses each file incrementally and feeds it to
+ * {@link PlayerService#bulkCreatePlayers} in chunks of {@code player.import.chunk-size} rows, recording
+ * a status per chunk. An upload holds one of {@code workers + queue-capacity} slots from before it is
+ * spooled until its job ends, so at most that many uploads are on disk at once; when none is free, new
+ * uploads are turned away before spooling. An upload over {@code player.import.max-bytes} is cut off with 413 and its partial spool file deleted.
+ * Finished jobs are forgotten after {@code retention-minutes}, checked every {@code cleanup-interval-ms},
+ * which also removes spool files no live job owns (e.g. left by a previous run).
+ */
+@Component
+public class PlayerImportService implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerImportService.class);
+
+    @Value("${player.import.workers:2}")
+    private int workers = 2;
+
+    @Value("${player.import.queue-capacity:4}")
+    private int queueCapacity = 4;
+
+    @Value("${player.import.chunk-size:2000}")
+    private int chunkSize = 2000;
+
+    @Value("${player.import.spool-dir:data/import}")
+    private String spoolDir = "data/import";
+
+    @Value("${player.import.retention-minutes:60}")
+    private long retentionMinutes = 60;
+
+    @Value("${player.import.max-bytes:536870912}")
+    private long maxBytes = 512L * 1024 * 1024;
+
+    @Value("${player.import.cleanup-interval-ms:60000}")
+    private long cleanupIntervalMillis = 60_000;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ThreadPoolExecutor executor;
+    private Semaphore slots; // spooling + queued + running jobs
+    private ScheduledExecutorService cleaner;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder rowsImported = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threads = new AtomicInteger();
+        slots = new Semaphore(workers + queueCapacity);
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "player-import-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        cleaner = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "player-import-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cleaner.scheduleWithFixedDelay(this::cleanUp, cleanupIntervalMillis, cleanupIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cleaner.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    // ✅ Takes a slot, spools the upload, then queues it; throws ImportQueueFullException instead of
+    // spooling or queueing unbounded work. The slot is given back when the job ends or is turned away
+    public ImportJob submit(InputStream body, ImportFormat format, boolean gzip) throws IOException {
+        evictExpiredJobs();
+        if (!slots.tryAcquire()) {
+            rejected.increment();
+            throw new ImportQueueFullException();
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format);
+        Path spool = null;
+        try {
+            Path directory = Paths.get(spoolDir);
+            Files.createDirectories(directory);
+            spool = directory.resolve(job.getId() + (gzip ? ".gz" : ""));
+            job.received(spool(body, spool));
+
+            jobs.put(job.getId(), job);
+            Path file = spool;
+            executor.execute(() -> {
+                try {
+                    run(job, file, gzip);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(spool);
+            slots.release();
+            rejected.increment();
+            throw new ImportQueueFullException();
+        } catch (IOException | RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+        submitted.increment();
+        LOGGER.info("Queued {} import job {} ({} bytes)", format, job.getId(), job.toMap().get("bytesReceived"));
+        return job;
+    }
+
+    // ✅ Copies at most maxBytes; a larger upload leaves nothing behind
+    private long spool(InputStream body, Path spool) throws IOException {
+        long total = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (OutputStream out = Files.newOutputStream(spool)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    rejected.increment();
+                    throw new ImportTooLargeException(maxBytes);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+        return total;
+    }
+
+    public Optional<ImportJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(ImportJob job, Path spool, boolean gzip) {
+        job.started();
+        job.publish();
+        try (InputStream raw = Files.newInputStream(spool);
+             InputStream in = gzip ? new GZIPInputStream(raw, 64 * 1024) : raw;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024)) {
+            if (job.getFormat() == ImportFormat.CSV) {
+                importCsv(job, reader);
+            } else {
+                importNdjson(job, reader);
+            }
+            job.completed();
+            LOGGER.info("Import job {} completed: {}", job.getId(), summary(job));
+        } catch (IOException | RuntimeException e) {
+            job.failed(e.getMessage());
+            LOGGER.error("message=Import job {} failed; exception={}", job.getId(), e.toString());
+        } finally {
+            job.publish();
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete import spool file {}: {}", spool, e.toString());
+            }
+        }
+    }
+
+    // ✅ Records, not lines: a quoted field may span lines, as PlayerCsvWriter writes them
+    private void importCsv(ImportJob job, BufferedReader reader) throws IOException {
+        String headerLine = CsvLineParser.readRecord(reader);
+        if (headerLine == null) {
+            return;
+        }
+        String[] header = CsvLineParser.parse(stripBom(headerLine));
+        PlayerField[] fields = new PlayerField[header.length];
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i];
+            fields[i] = PlayerField.fromHeader(name)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown column in CSV header: " + name));
+        }
+
+        List<Player> chunk = new ArrayList<>(chunkSize);
+        String line;
+        while ((line = CsvLineParser.readRecord(reader)) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] values = CsvLineParser.parse(line);
+            Player player = new Player();
+            for (int i = 0; i < fields.length && i < values.length; i++) {
+                fields[i].set(player, values[i]);
+            }
+            chunk.add(player);
+            if (chunk.size() == chunkSize) {
+                commit(job, chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        commit(job, chunk);
+    }
+
+    private void importNdjson(ImportJob job, BufferedReader reader) throws IOException {
+        ObjectReader playerReader = objectMapper.readerFor(Player.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        List<Player> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<Player> players = playerReader.readValues(reader)) {
+            while (players.hasNextValue()) {
+                chunk.add(players.nextValue());
+                if (chunk.size() == chunkSize) {
+                    commit(job, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        commit(job, chunk);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void commit(ImportJob job, List<Player> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<String, Object> result = playerService.bulkCreatePlayers(chunk);
+        List<String> createdIds = (List<String>) result.get("createdIds");
+        job.chunkCommitted(chunk.size(), createdIds, (List<String>) result.get("failedIds"));
+        rowsImported.add(createdIds.size());
+        job.publish();
+    }
+
+    private void evictExpiredJobs() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    // ✅ Scheduled: expire finished jobs and delete spool files no job owns that haven't been written for a while
+    void cleanUp() {
+        try {
+            evictExpiredJobs();
+            Path directory = Paths.get(spoolDir);
+            if (!Files.isDirectory(directory)) {
+                return;
+            }
+            Instant cutoff = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    String jobId = file.getFileName().toString().replaceFirst("\\.gz$", "");
+                    if (!jobs.containsKey(jobId) && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                        Files.deleteIfExists(file);
+                        LOGGER.info("Deleted orphaned import spool file {}", file);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Import cleanup failed: {}", e.toString());
+        }
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private static String summary(ImportJob job) {
+        Map<String, Object> state = job.toMap();
+        return state.get("rowsRead") + " read, " + state.get("rowsCreated") + " created, "
+                + state.get("rowsFailed") + " failed";
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("player.import.jobs", submitted, LongAdder::sum)
+                .tag("result", "accepted").description("Import jobs submitted")
+                .register(registry);
+        FunctionCounter.builder("player.import.jobs", rejected, LongAdder::sum)
+                .tag("result", "rejected").description("Import jobs submitted")
+                .register(registry);
+        FunctionCounter.builder("player.import.rows", rowsImported, LongAdder::sum)
+                .description("Rows created by import jobs")
+                .register(registry);
+        Gauge.builder("player.import.queue.depth", this, s -> s.executor == null ? 0 : s.executor.getQueue().size())
+                .description("Import jobs waiting for a worker")
+                .register(registry);
+        Gauge.builder("player.import.active", this, s -> s.executor == null ? 0 : s.executor.getActiveCount())
+                .description("Import jobs currently running")
+                .register(registry);
+        Gauge.builder("player.import.slots.used", this,
+                        s -> s.slots == null ? 0 : s.workers + s.queueCapacity - s.slots.availablePermits())
+                .description("Uploads being spooled plus import jobs queued or running")
+                .register(registry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.app.playerservicejava.service.loader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 field splitter for a single CSV record.
+ * Quoted fields (with "" escapes) are supported. The bootstrap loaders split Player.csv on newlines,
+ * so a line break inside a quoted field only survives when the record is read with
+ * {@link #readRecord(BufferedReader)}, as the import endpoint does.
+ */
+public final class CsvLineParser {
+
+    // ✅ Bounds the memory an unterminated quote can pull in
+    static final int MAX_RECORD_CHARS = 1 << 20;
+
+    private CsvLineParser() {
+    }
+
+    // ✅ Next record, joining lines while a quoted field is still open (its line breaks come back as \n); null at the end
+    public static String readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null || !opensQuote(line, false)) {
+            return line;
+        }
+        StringBuilder record = new StringBuilder(line);
+        boolean open = true;
+        while (open && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            if (record.length() > MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException("CSV record longer than " + MAX_RECORD_CHARS
+                        + " characters - unterminated quoted field?");
+            }
+            open = opensQuote(line, true);
+        }
+        return record.toString();
+    }
+
+    // ✅ Each quote toggles the state - a "" escape toggles twice
+    private static boolean opensQuote(String line, boolean open) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                open = !open;
+            }
+        }
+        return open;
+    }
+
+    // ✅ Split one record into its fields - empty fields come back as null
+    public static String[] parse(String line) {
+        List<String> fields = new ArrayList<>(24);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(toField(current, wasQuoted));
+                current.setLength(0);
+                wasQuoted = false;
+            } else if (c != '\r') {
+                current.append(c);
+            }
+        }
+        fields.add(toField(current, wasQuoted));
+        return fields.toArray(new String[0]);
+    }
+
+    private static String toField(StringBuilder value, boolean wasQuoted) {
+        if (value.length() == 0 && !wasQuoted) {
+            return null;
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.app.playerservicejava.service.loader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes and inserts chunks of player rows on a fixed worker pool.
+ * The producer blocks once two chunks per worker are in flight, so memory stays bounded
+ * no matter how large the source is. {@link #close()} drops chunks that haven't started and waits
+ * for the running ones, so nothing is written after it returns.
+ */
+public class ParallelChunkInserter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelChunkInserter.class);
+
+    private final PlayerBatchWriter batchWriter;
+    private final String[] columns;
+    private final ExecutorService pool;
+    private final Semaphore inFlight;
+    private final List<Future<Integer>> results = new ArrayList<>();
+
+    public ParallelChunkInserter(PlayerBatchWriter batchWriter, String[] columns, int workers) {
+        this.batchWriter = batchWriter;
+        this.columns = columns;
+        this.pool = Executors.newFixedThreadPool(workers, namedThreads("player-loader-"));
+        this.inFlight = new Semaphore(workers * 2);
+    }
+
+    // ✅ Rows are produced on the worker, so parsing/decoding runs in parallel too
+    public void submit(Callable<List<String[]>> rows) throws InterruptedException {
+        inFlight.acquire();
+        results.add(pool.submit(() -> {
+            try {
+                return batchWriter.insert(columns, rows.call());
+            } finally {
+                inFlight.release();
+            }
+        }));
+    }
+
+    public long awaitCompletion() throws InterruptedException {
+        long total = 0;
+        try {
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Player bulk load failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return total;
+    }
+
+    // ✅ Returns only once no batch is running, so a caller can safely truncate after a failed load
+    @Override
+    public void close() {
+        results.forEach(result -> result.cancel(false)); // not interrupting: a JDBC batch in progress just completes
+        pool.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                    break;
+                }
+                LOGGER.warn("Still waiting for in-flight player batches to finish");
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
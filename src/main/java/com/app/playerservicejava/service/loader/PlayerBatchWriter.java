@@ -0,0 +1,80 @@
+package com.app.playerservicejava.service.loader;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes raw player rows into the PLAYERS table with batched JDBC inserts.
+ * Rows are positional String arrays matching the column list they were read with.
+ */
+@Component
+public class PlayerBatchWriter {
+
+    // ✅ Column order of the PLAYERS table (same as the Player.csv header)
+    public static final List<String> COLUMNS = List.of(
+            "PLAYERID", "BIRTHYEAR", "BIRTHMONTH", "BIRTHDAY", "BIRTHCOUNTRY", "BIRTHSTATE", "BIRTHCITY",
+            "DEATHYEAR", "DEATHMONTH", "DEATHDAY", "DEATHCOUNTRY", "DEATHSTATE", "DEATHCITY",
+            "NAMEFIRST", "NAMELAST", "NAMEGIVEN", "WEIGHT", "HEIGHT", "BATS", "THROWS",
+            "DEBUT", "FINALGAME", "RETROID", "BBREFID"
+    );
+
+    private static final Set<String> KNOWN_COLUMNS = Set.copyOf(COLUMNS);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public PlayerBatchWriter() {
+    }
+
+    // ✅ For use outside the Spring context, e.g. SyntheticPlayerGenerator's JDBC target
+    public PlayerBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // ✅ Normalise a CSV header to table column names, rejecting anything the table does not declare
+    public static String[] resolveColumns(String[] header) {
+        String[] columns = new String[header.length];
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i] == null ? "" : header[i].trim().toUpperCase(Locale.ROOT);
+            if (!KNOWN_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown PLAYERS column in header: " + header[i]);
+            }
+            columns[i] = name;
+        }
+        return columns;
+    }
+
+    public static String insertSql(String[] columns) {
+        return "INSERT INTO PLAYERS (" + String.join(",", columns) + ") VALUES ("
+                + Arrays.stream(columns).map(c -> "?").collect(Collectors.joining(",")) + ")";
+    }
+
+    // ✅ One executeBatch() per call - callers size their chunks to the batch they want
+    public int insert(String[] columns, List<String[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = rows.stream()
+                .map(row -> row.length == columns.length ? (Object[]) row : Arrays.copyOf((Object[]) row, columns.length))
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(insertSql(columns), args);
+        return rows.size();
+    }
+
+    public long count() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PLAYERS", Long.class);
+        return rows == null ? 0 : rows;
+    }
+
+    // ✅ Used to discard a partially applied load before falling back to another source
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE PLAYERS");
+    }
+}
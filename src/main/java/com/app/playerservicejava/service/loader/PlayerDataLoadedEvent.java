@@ -0,0 +1,33 @@
+package com.app.playerservicejava.service.loader;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once the PLAYERS table has been populated at startup.
+ * In-memory structures derived from the table listen for this to build themselves.
+ */
+public class PlayerDataLoadedEvent extends ApplicationEvent {
+
+    private final String source;
+    private final long rows;
+    private final long durationMillis;
+
+    public PlayerDataLoadedEvent(Object publisher, String source, long rows, long durationMillis) {
+        super(publisher);
+        this.source = source;
+        this.rows = rows;
+        this.durationMillis = durationMillis;
+    }
+
+    public String getLoadSource() {
+        return source;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+}
@@ -0,0 +1,218 @@
+package com.app.playerservicejava.service.loader;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bootstraps the PLAYERS table at startup.
+ * <p>
+ * With {@code player.loader.reuse-existing} (off by default) rows already present in a persistent
+ * datasource are kept as they are; nothing marks a load as complete, so only turn it on for a database
+ * that is known to be fully populated, such as one filled by SyntheticPlayerGenerator. Otherwise a valid
+ * {@link PlayerSnapshotStore} image is preferred; otherwise the CSV is streamed in chunks of
+ * {@code player.loader.chunk-size} lines and each chunk is parsed and written with one JDBC batch on
+ * a worker thread, after which a fresh snapshot is written in the background. Runs as an {@link ApplicationRunner}, which
+ * Spring Boot completes before it publishes readiness = ACCEPTING_TRAFFIC.
+ */
+@Component
+public class PlayerDataLoader implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerDataLoader.class);
+
+    @Value("${player.loader.csv-path:Player.csv}")
+    private String csvPath;
+
+    @Value("${player.loader.chunk-size:2000}")
+    private int chunkSize;
+
+    @Value("${player.loader.parallelism:0}")
+    private int parallelism;
+
+    @Value("${player.loader.reuse-existing:false}")
+    private boolean reuseExisting;
+
+    @Value("${player.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Autowired
+    private PlayerBatchWriter batchWriter;
+
+    @Autowired
+    private PlayerSnapshotStore snapshotStore;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer loadTimer;
+
+    private volatile boolean loaded;
+    private volatile long lastRowCount;
+    private volatile double lastRowsPerSecond;
+
+    @PostConstruct
+    void registerMetrics() {
+        loadTimer = Timer.builder("player.loader.duration")
+                .description("Time taken to bulk load the PLAYERS table")
+                .register(meterRegistry);
+        Gauge.builder("player.loader.rows", this, l -> l.lastRowCount)
+                .description("Rows loaded by the last bootstrap load")
+                .register(meterRegistry);
+        Gauge.builder("player.loader.rows.per.second", this, l -> l.lastRowsPerSecond)
+                .description("Throughput of the last bootstrap load")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (reuseExisting && reuseExistingRows()) {
+            return;
+        }
+        if (snapshotEnabled && loadFromSnapshot()) {
+            return;
+        }
+
+        Path path = Paths.get(csvPath);
+        if (!Files.isReadable(path)) {
+            LOGGER.warn("Player CSV not found at {} - PLAYERS table left empty", path.toAbsolutePath());
+            finish("none", 0, 0);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long rows = loadCsv(path);
+        finish("csv", rows, System.nanoTime() - start);
+
+        if (snapshotEnabled) {
+            writeSnapshotInBackground();
+        }
+    }
+
+    // ✅ A persistent database that already holds players (e.g. filled by SyntheticPlayerGenerator) is used as is
+    private boolean reuseExistingRows() {
+        long start = System.nanoTime();
+        long rows = batchWriter.count();
+        if (rows == 0) {
+            return false;
+        }
+        finish("database", rows, System.nanoTime() - start);
+        return true;
+    }
+
+    // ✅ Warm start - any problem with the snapshot falls back to the CSV
+    private boolean loadFromSnapshot() throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            long rows = snapshotStore.load(workers());
+            if (rows >= 0) {
+                finish("snapshot", rows, System.nanoTime() - start);
+                return true;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Player snapshot load failed, falling back to CSV: {}", e.getMessage());
+            batchWriter.truncate();
+        }
+        return false;
+    }
+
+    private void writeSnapshotInBackground() {
+        Thread writer = new Thread(() -> {
+            try {
+                snapshotStore.write();
+            } catch (Exception e) {
+                LOGGER.warn("Failed to write player snapshot: {}", e.getMessage());
+            }
+        }, "player-snapshot-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // ✅ Record metrics, flip the loaded flag and let derived structures build themselves
+    private void finish(String source, long rows, long elapsedNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        loadTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        lastRowCount = rows;
+        lastRowsPerSecond = elapsedNanos > 0 ? rows * 1_000_000_000.0 / elapsedNanos : 0;
+        loaded = true;
+
+        LOGGER.info("Loaded {} players from {} in {} ms ({} rows/sec)",
+                rows, source, millis, Math.round(lastRowsPerSecond));
+        eventPublisher.publishEvent(new PlayerDataLoadedEvent(this, source, rows, millis));
+    }
+
+    public long loadCsv(Path path) throws IOException, InterruptedException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return 0;
+            }
+            if (headerLine.startsWith("\uFEFF")) {
+                headerLine = headerLine.substring(1);
+            }
+            String[] columns = PlayerBatchWriter.resolveColumns(CsvLineParser.parse(headerLine));
+
+            try (ParallelChunkInserter inserter = new ParallelChunkInserter(batchWriter, columns, workers())) {
+                List<String> chunk = new ArrayList<>(chunkSize);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    chunk.add(line);
+                    if (chunk.size() >= chunkSize) {
+                        submitLines(inserter, chunk);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    submitLines(inserter, chunk);
+                }
+                return inserter.awaitCompletion();
+            }
+        }
+    }
+
+    private static void submitLines(ParallelChunkInserter inserter, List<String> lines) throws InterruptedException {
+        inserter.submit(() -> {
+            List<String[]> rows = new ArrayList<>(lines.size());
+            for (String l : lines) {
+                rows.add(CsvLineParser.parse(l));
+            }
+            return rows;
+        });
+    }
+
+    private int workers() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public long getLastRowCount() {
+        return lastRowCount;
+    }
+}
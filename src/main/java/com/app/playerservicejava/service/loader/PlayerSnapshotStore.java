@@ -0,0 +1,341 @@
+package com.app.playerservicejava.service.loader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of the PLAYERS table used for warm starts.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * header : magic(int) version(int) csvSize(long) csvModified(long) columnCount(int)
+ *          columnCount x [nameLength(short) nameBytes] headerCrc32(long)
+ * block* : payloadLength(int) rowCount(int) payloadCrc32(long) payload
+ * footer : -1(int) totalRows(long)
+ * </pre>
+ * Each payload holds rowCount rows of columnCount fields, every field encoded as a varint of
+ * (byteLength + 1) followed by UTF-8 bytes; 0 means NULL. Rows are written in PLAYERID order.
+ * Blocks are memory-mapped individually on load, so files larger than 2 GB work, and every
+ * checksum is verified before a single row is inserted.
+ */
+@Component
+public class PlayerSnapshotStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerSnapshotStore.class);
+
+    private static final int MAGIC = 0x504C534E; // "PLSN"
+    static final int VERSION = 1;
+    private static final int BLOCK_HEADER_BYTES = 16;
+
+    @Value("${player.snapshot.path:data/players.snapshot}")
+    private String snapshotPath;
+
+    @Value("${player.loader.csv-path:Player.csv}")
+    private String csvPath;
+
+    @Value("${player.loader.chunk-size:2000}")
+    private int blockRows;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlayerBatchWriter batchWriter;
+
+    private volatile Map<String, Object> lastWrite = Map.of();
+
+    public Path getPath() {
+        return Paths.get(snapshotPath);
+    }
+
+    // ✅ Load the snapshot into PLAYERS - returns -1 when it is missing, stale or corrupt
+    public long load(int workers) throws IOException, InterruptedException {
+        Path path = getPath();
+        if (!Files.isReadable(path)) {
+            LOGGER.info("No player snapshot at {}", path.toAbsolutePath());
+            return -1;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, 64 * 1024));
+
+            if (head.remaining() < 28 || head.getInt() != MAGIC) {
+                LOGGER.warn("Player snapshot {} has an unknown format - ignoring it", path);
+                return -1;
+            }
+            int version = head.getInt();
+            if (version != VERSION) {
+                LOGGER.warn("Player snapshot version {} != {} - ignoring it", version, VERSION);
+                return -1;
+            }
+            long csvSize = head.getLong();
+            long csvModified = head.getLong();
+            String[] columns = new String[head.getInt()];
+            for (int i = 0; i < columns.length; i++) {
+                byte[] name = new byte[head.getShort()];
+                head.get(name);
+                columns[i] = new String(name, StandardCharsets.UTF_8);
+            }
+            int headerLength = head.position();
+            long headerCrc = head.getLong();
+            if (crc(head.duplicate().position(0).limit(headerLength)) != headerCrc) {
+                LOGGER.warn("Player snapshot header checksum mismatch - ignoring it");
+                return -1;
+            }
+            PlayerBatchWriter.resolveColumns(columns);
+
+            Path csv = Paths.get(csvPath);
+            if (Files.isReadable(csv) && (Files.size(csv) != csvSize
+                    || Files.getLastModifiedTime(csv).toMillis() != csvModified)) {
+                LOGGER.info("Player snapshot was built from a different {} - ignoring it", csv);
+                return -1;
+            }
+
+            List<long[]> blocks = verifyBlocks(channel, headerLength + 8L, size);
+            if (blocks == null) {
+                return -1;
+            }
+
+            try (ParallelChunkInserter inserter = new ParallelChunkInserter(batchWriter, columns, workers)) {
+                for (long[] block : blocks) {
+                    MappedByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, block[0], block[1]);
+                    int rows = (int) block[2];
+                    inserter.submit(() -> decodeBlock(payload, rows, columns.length));
+                }
+                return inserter.awaitCompletion();
+            }
+        }
+    }
+
+    // ✅ Checksum pass over every block - returns {offset, length, rows} per block or null if invalid
+    private List<long[]> verifyBlocks(FileChannel channel, long position, long size) throws IOException {
+        List<long[]> blocks = new ArrayList<>();
+        long rows = 0;
+        ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+
+        while (true) {
+            if (position + 4 > size) {
+                LOGGER.warn("Player snapshot is truncated - ignoring it");
+                return null;
+            }
+            blockHeader.clear();
+            channel.read(blockHeader, position);
+            blockHeader.flip();
+            int length = blockHeader.getInt();
+            if (length == -1) {
+                ByteBuffer footer = ByteBuffer.allocate(8);
+                channel.read(footer, position + 4);
+                footer.flip();
+                if (position + 12 != size || footer.getLong() != rows) {
+                    LOGGER.warn("Player snapshot footer mismatch - ignoring it");
+                    return null;
+                }
+                return blocks;
+            }
+            int blockRowCount = blockHeader.getInt();
+            long expectedCrc = blockHeader.getLong();
+            long offset = position + BLOCK_HEADER_BYTES;
+            if (length < 0 || offset + length > size) {
+                LOGGER.warn("Player snapshot block at {} is out of bounds - ignoring it", position);
+                return null;
+            }
+            MappedByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            if (crc(payload) != expectedCrc) {
+                LOGGER.warn("Player snapshot block at {} failed its checksum - ignoring it", position);
+                return null;
+            }
+            blocks.add(new long[]{offset, length, blockRowCount});
+            rows += blockRowCount;
+            position = offset + length;
+        }
+    }
+
+    private static List<String[]> decodeBlock(ByteBuffer payload, int rowCount, int columnCount) {
+        List<String[]> rows = new ArrayList<>(rowCount);
+        byte[] scratch = new byte[256];
+        for (int r = 0; r < rowCount; r++) {
+            String[] row = new String[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                int encoded = readVarint(payload);
+                if (encoded == 0) {
+                    continue;
+                }
+                int length = encoded - 1;
+                if (scratch.length < length) {
+                    scratch = new byte[length];
+                }
+                payload.get(scratch, 0, length);
+                row[c] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // ✅ Dump PLAYERS into a new snapshot file, swapped in atomically once complete
+    public synchronized Map<String, Object> write() throws IOException {
+        long start = System.nanoTime();
+        Path path = getPath().toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        String[] columns = PlayerBatchWriter.COLUMNS.toArray(new String[0]);
+        long[] totals = new long[2]; // rows, bytes
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header(columns));
+
+            ByteArrayOutputStream block = new ByteArrayOutputStream(blockRows * 128);
+            int[] blockRowCount = {0};
+            jdbcTemplate.query(con -> {
+                var statement = con.prepareStatement("SELECT " + String.join(",", columns)
+                        + " FROM PLAYERS ORDER BY PLAYERID");
+                statement.setFetchSize(blockRows);
+                return statement;
+            }, rs -> {
+                for (int c = 1; c <= columns.length; c++) {
+                    String value = rs.getString(c);
+                    if (value == null) {
+                        writeVarint(block, 0);
+                    } else {
+                        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                        writeVarint(block, bytes.length + 1);
+                        block.write(bytes, 0, bytes.length);
+                    }
+                }
+                totals[0]++;
+                if (++blockRowCount[0] == blockRows) {
+                    flushBlock(channel, block, blockRowCount[0]);
+                    blockRowCount[0] = 0;
+                }
+            });
+            if (blockRowCount[0] > 0) {
+                flushBlock(channel, block, blockRowCount[0]);
+            }
+
+            ByteBuffer footer = ByteBuffer.allocate(12).putInt(-1).putLong(totals[0]);
+            writeFully(channel, footer.flip());
+            totals[1] = channel.size();
+            channel.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("path", path.toString());
+        result.put("rows", totals[0]);
+        result.put("bytes", totals[1]);
+        result.put("durationMs", (System.nanoTime() - start) / 1_000_000);
+        result.put("writtenAt", Instant.now().toString());
+        lastWrite = result;
+        LOGGER.info("Wrote player snapshot: {}", result);
+        return result;
+    }
+
+    public Map<String, Object> describe() throws IOException {
+        Path path = getPath().toAbsolutePath();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("path", path.toString());
+        info.put("version", VERSION);
+        info.put("exists", Files.exists(path));
+        if (Files.exists(path)) {
+            info.put("bytes", Files.size(path));
+            info.put("lastModified", Files.getLastModifiedTime(path).toString());
+        }
+        info.put("lastWrite", lastWrite);
+        return info;
+    }
+
+    private ByteBuffer header(String[] columns) throws IOException {
+        Path csv = Paths.get(csvPath);
+        boolean csvPresent = Files.isReadable(csv);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(csvPresent ? Files.size(csv) : -1);
+        out.writeLong(csvPresent ? Files.getLastModifiedTime(csv).toMillis() : -1);
+        out.writeInt(columns.length);
+        for (String column : columns) {
+            byte[] name = column.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(name.length);
+            out.write(name);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private static void flushBlock(FileChannel channel, ByteArrayOutputStream block, int rowCount) {
+        byte[] payload = block.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES)
+                .putInt(payload.length).putInt(rowCount).putLong(crc.getValue());
+        try {
+            writeFully(channel, blockHeader.flip());
+            writeFully(channel, ByteBuffer.wrap(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write player snapshot block", e);
+        }
+        block.reset();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long crc(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer);
+        return crc.getValue();
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
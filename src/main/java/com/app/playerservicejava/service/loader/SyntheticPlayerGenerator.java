@@ -0,0 +1,533 @@
+package com.app.playerservicejava.service.loader;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.export.PlayerField;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates statistically realistic PLAYERS rows at any scale, deterministically from a seed.
+ * <p>
+ * Every distribution is learned from a real player CSV (normally the bundled Player.csv): birthplaces
+ * are drawn as whole country/state/city triples, first, last and middle names by frequency, height and
+ * weight as pairs from players born in the same decade, and debut age, career length, mortality and
+ * lifespan from the real careers. Each row is a pure function of (seed, row index), so any range can be
+ * generated on any thread - or regenerated later - and comes out identical. Player ids carry the row
+ * index ({@code smithjo4711x}) and can never collide with each other or with real ids, which end in digits.
+ * <p>
+ * Used as a test fixture through {@link #players(long, long)} / {@link #rows(long, long)}, and as a
+ * command line tool (see {@link #main(String[])}) that streams rows to a CSV the bootstrap loader reads
+ * via {@code player.loader.csv-path}, or straight into a database with the loader's batched inserts.
+ */
+public class SyntheticPlayerGenerator {
+
+    // ✅ Same header (and so the same column order) as Player.csv
+    public static final String CSV_HEADER = "playerID,birthYear,birthMonth,birthDay,birthCountry,birthState,"
+            + "birthCity,deathYear,deathMonth,deathDay,deathCountry,deathState,deathCity,nameFirst,nameLast,"
+            + "nameGiven,weight,height,bats,throws,debut,finalGame,retroID,bbrefID";
+
+    private static final String[] COLUMNS = PlayerBatchWriter.COLUMNS.toArray(new String[0]);
+    private static final int ID = 0, BIRTH_YEAR = 1, BIRTH_MONTH = 2, BIRTH_DAY = 3, BIRTH_COUNTRY = 4,
+            BIRTH_STATE = 5, BIRTH_CITY = 6, DEATH_YEAR = 7, DEATH_MONTH = 8, DEATH_DAY = 9, DEATH_COUNTRY = 10,
+            DEATH_STATE = 11, DEATH_CITY = 12, NAME_FIRST = 13, NAME_LAST = 14, NAME_GIVEN = 15, WEIGHT = 16,
+            HEIGHT = 17, BATS = 18, THROWS = 19, DEBUT = 20, FINAL_GAME = 21, RETRO_ID = 22, BBREF_ID = 23;
+
+    private final long seed;
+    private final Weighted<String[]> birthplaces;
+    private final Weighted<String> firstNames;
+    private final Weighted<String> lastNames;
+    private final Weighted<String> middleNames;
+    private final double middleNameRate;
+    private final Weighted<Integer> birthYears;
+    private final Weighted<Integer> birthMonths;
+    private final Map<Integer, Weighted<int[]>> bodyByDecade;
+    private final Weighted<int[]> body;
+    private final Weighted<String[]> handedness;
+    private final Weighted<Integer> debutAges;
+    private final Weighted<Integer> careerYears;
+    private final Weighted<Integer> lifespans;
+    private final Map<Integer, Double> deathRateByDecade;
+    private final double samePlaceDeathRate;
+    private final int latestYear;
+
+    private SyntheticPlayerGenerator(long seed, Profile profile) {
+        this.seed = seed;
+        this.birthplaces = profile.birthplaces.build();
+        this.firstNames = profile.firstNames.build();
+        this.lastNames = profile.lastNames.build();
+        this.middleNames = profile.middleNames.build();
+        this.middleNameRate = ratio(profile.withMiddleName, profile.named);
+        this.birthYears = profile.birthYears.build();
+        this.birthMonths = profile.birthMonths.build();
+        this.bodyByDecade = new HashMap<>();
+        profile.bodyByDecade.forEach((decade, counts) -> bodyByDecade.put(decade, counts.build()));
+        this.body = profile.body.build();
+        this.handedness = profile.handedness.build();
+        this.debutAges = profile.debutAges.build();
+        this.careerYears = profile.careerYears.build();
+        this.lifespans = profile.lifespans.build();
+        this.deathRateByDecade = new HashMap<>();
+        profile.bornByDecade.forEach((decade, born) ->
+                deathRateByDecade.put(decade, ratio(profile.diedByDecade.getOrDefault(decade, 0L), born)));
+        this.samePlaceDeathRate = ratio(profile.diedWhereBorn, profile.died);
+        this.latestYear = profile.latestYear;
+    }
+
+    // ✅ Learn the distributions from a real player CSV (Player.csv header, any column order)
+    public static SyntheticPlayerGenerator fromCsv(Path source, long seed) throws IOException {
+        Profile profile = new Profile();
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IllegalArgumentException("Empty player CSV: " + source);
+            }
+            if (headerLine.startsWith("\uFEFF")) {
+                headerLine = headerLine.substring(1);
+            }
+            String[] header = PlayerBatchWriter.resolveColumns(CsvLineParser.parse(headerLine));
+            int[] position = new int[COLUMNS.length];
+            Arrays.fill(position, -1);
+            for (int i = 0; i < header.length; i++) {
+                position[PlayerBatchWriter.COLUMNS.indexOf(header[i])] = i;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    String[] fields = CsvLineParser.parse(line);
+                    String[] row = new String[COLUMNS.length];
+                    for (int c = 0; c < row.length; c++) {
+                        row[c] = position[c] >= 0 && position[c] < fields.length ? fields[position[c]] : null;
+                    }
+                    profile.add(row);
+                }
+            }
+        }
+        if (profile.birthYears.isEmpty() || profile.lastNames.isEmpty()) {
+            throw new IllegalArgumentException("No usable player rows in " + source);
+        }
+        return new SyntheticPlayerGenerator(seed, profile);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // ✅ Rows [from, to) in PlayerBatchWriter.COLUMNS order - the shape PlayerBatchWriter.insert takes
+    public List<String[]> rows(long from, long to) {
+        List<String[]> rows = new ArrayList<>((int) Math.max(0, to - from));
+        for (long index = from; index < to; index++) {
+            rows.add(row(index));
+        }
+        return rows;
+    }
+
+    public Stream<Player> players(long from, long count) {
+        return LongStream.range(from, from + count).mapToObj(this::player);
+    }
+
+    public Player player(long index) {
+        String[] row = row(index);
+        Player player = new Player();
+        for (PlayerField field : PlayerField.values()) {
+            field.set(player, row[field.ordinal()]);
+        }
+        return player;
+    }
+
+    // ✅ Row number `index` for this seed - a pure function, independent of what else was generated
+    public String[] row(long index) {
+        SplittableRandom random = new SplittableRandom(mix(seed ^ mix(index + 0x632BE59BD9B4E019L)));
+        String[] row = new String[COLUMNS.length];
+
+        int birthYear = birthYears.sample(random);
+        int birthMonth = birthMonths.sample(random);
+        int decade = birthYear / 10 * 10;
+        String[] birthplace = birthplaces.sample(random);
+        row[BIRTH_YEAR] = Integer.toString(birthYear);
+        row[BIRTH_MONTH] = Integer.toString(birthMonth);
+        row[BIRTH_DAY] = Integer.toString(dayOf(random, birthYear, birthMonth));
+        row[BIRTH_COUNTRY] = birthplace[0];
+        row[BIRTH_STATE] = birthplace[1];
+        row[BIRTH_CITY] = birthplace[2];
+
+        String first = firstNames.sample(random);
+        String last = lastNames.sample(random);
+        row[NAME_FIRST] = first;
+        row[NAME_LAST] = last;
+        row[NAME_GIVEN] = random.nextDouble() < middleNameRate ? first + " " + middleNames.sample(random) : first;
+
+        int[] size = bodyByDecade.getOrDefault(decade, body).sample(random);
+        row[HEIGHT] = Integer.toString(size[0] + random.nextInt(-1, 2)); // ±1 so pairs aren't exact copies
+        row[WEIGHT] = Integer.toString(size[1] + random.nextInt(-3, 4));
+        String[] hands = handedness.sample(random);
+        row[BATS] = hands[0];
+        row[THROWS] = hands[1];
+
+        int debutYear = Math.min(birthYear + debutAges.sample(random), latestYear);
+        int finalYear = Math.min(debutYear + careerYears.sample(random), latestYear);
+        String debut = date(debutYear, 4 + random.nextInt(6), 1 + random.nextInt(28));
+        String finalGame = date(finalYear, 4 + random.nextInt(6), 1 + random.nextInt(28));
+        boolean inOrder = finalGame.compareTo(debut) >= 0; // one-season careers can draw them backwards
+        row[DEBUT] = inOrder ? debut : finalGame;
+        row[FINAL_GAME] = inOrder ? finalGame : debut;
+
+        if (random.nextDouble() < deathRateByDecade.getOrDefault(decade, 0.0)) {
+            int deathYear = birthYear + lifespans.sample(random);
+            if (deathYear >= finalYear && deathYear <= latestYear) {
+                int deathMonth = 1 + random.nextInt(12);
+                String[] place = random.nextDouble() < samePlaceDeathRate ? birthplace : birthplaces.sample(random);
+                row[DEATH_YEAR] = Integer.toString(deathYear);
+                row[DEATH_MONTH] = Integer.toString(deathMonth);
+                row[DEATH_DAY] = Integer.toString(dayOf(random, deathYear, deathMonth));
+                row[DEATH_COUNTRY] = place[0];
+                row[DEATH_STATE] = place[1];
+                row[DEATH_CITY] = place[2];
+            }
+        }
+
+        String suffix = index + "x"; // letters, then digits: unique per index; ends in a letter, real ids never do
+        row[ID] = idPart(last, 5) + idPart(first, 2) + suffix;
+        row[RETRO_ID] = idPart(last, 4) + idPart(first, 1) + suffix;
+        row[BBREF_ID] = row[ID];
+        return row;
+    }
+
+    // ✅ Stream rows [from, from + count) to a Player.csv-shaped file, header included
+    public long writeCsv(Path out, long from, long count) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8), 1 << 16)) {
+            return writeCsv(writer, from, count);
+        }
+    }
+
+    public long writeCsv(Writer writer, long from, long count) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        StringBuilder line = new StringBuilder(256);
+        for (long index = from; index < from + count; index++) {
+            line.setLength(0);
+            String[] row = row(index);
+            for (int c = 0; c < row.length; c++) {
+                if (c > 0) {
+                    line.append(',');
+                }
+                appendField(line, row[c]);
+            }
+            line.append('\n');
+            writer.append(line);
+        }
+        return count;
+    }
+
+    // ✅ Generate and insert [from, from + count) in chunks of batchSize, generation running on the workers too
+    public long insert(PlayerBatchWriter batchWriter, long from, long count, int batchSize, int workers)
+            throws InterruptedException {
+        try (ParallelChunkInserter inserter = new ParallelChunkInserter(batchWriter, COLUMNS, workers)) {
+            for (long start = from; start < from + count; start += batchSize) {
+                long chunkStart = start;
+                long chunkEnd = Math.min(start + batchSize, from + count);
+                inserter.submit(() -> rows(chunkStart, chunkEnd));
+            }
+            return inserter.awaitCompletion();
+        }
+    }
+
+    /**
+     * Command line entry point. Run it from the packaged jar, in the project directory:
+     * <pre>
+     * java -cp target/player-service-java-0.0.1-SNAPSHOT.jar \
+     *      -Dloader.main=com.app.playerservicejava.service.loader.SyntheticPlayerGenerator \
+     *      org.springframework.boot.loader.launch.PropertiesLauncher \
+     *      --rows=10m --seed=42 --out=data/players-10m.csv
+     * </pre>
+     * Options: {@code --rows} (accepts k/m suffixes), {@code --seed}, {@code --from} (first row index),
+     * {@code --source} (CSV to learn from, default Player.csv) and either {@code --out=file.csv} or
+     * {@code --jdbc-url=... [--user=sa] [--password=] [--batch-size=5000] [--threads=n]}. A JDBC target
+     * gets the PLAYERS table from schema.sql if it doesn't have one yet.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        long rows = parseCount(options.getOrDefault("rows", "1m"));
+        long from = parseCount(options.getOrDefault("from", "0"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        SyntheticPlayerGenerator generator =
+                fromCsv(Paths.get(options.getOrDefault("source", "Player.csv")), seed);
+
+        long start = System.nanoTime();
+        String target;
+        if (options.containsKey("jdbc-url")) {
+            target = options.get("jdbc-url");
+            int threads = Integer.parseInt(options.getOrDefault("threads",
+                    Integer.toString(Runtime.getRuntime().availableProcessors())));
+            int batchSize = Integer.parseInt(options.getOrDefault("batch-size", "5000"));
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(target);
+            config.setUsername(options.getOrDefault("user", "sa"));
+            config.setPassword(options.getOrDefault("password", ""));
+            config.setMaximumPoolSize(threads);
+            try (HikariDataSource dataSource = new HikariDataSource(config)) {
+                ensurePlayersTable(dataSource);
+                generator.insert(new PlayerBatchWriter(new JdbcTemplate(dataSource)), from, rows, batchSize, threads);
+            }
+        } else {
+            Path out = Paths.get(options.getOrDefault("out", "data/players-" + options.getOrDefault("rows", "1m") + ".csv"));
+            target = out.toAbsolutePath().toString();
+            generator.writeCsv(out, from, rows);
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.printf("Generated %d players (seed %d) into %s in %d ms (%d rows/sec)%n",
+                rows, seed, target, millis, millis > 0 ? rows * 1000 / millis : rows);
+    }
+
+    private static void ensurePlayersTable(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData().getTables(null, null, "PLAYERS", null)) {
+            if (tables.next()) {
+                return;
+            }
+        }
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+    }
+
+    static long parseCount(String value) {
+        String v = value.trim().toLowerCase(Locale.ROOT).replace("_", "");
+        long multiplier = v.endsWith("k") ? 1_000 : v.endsWith("m") ? 1_000_000 : 1;
+        return Long.parseLong(multiplier == 1 ? v : v.substring(0, v.length() - 1)) * multiplier;
+    }
+
+    private static int dayOf(SplittableRandom random, int year, int month) {
+        return 1 + random.nextInt(YearMonth.of(year, month).lengthOfMonth());
+    }
+
+    private static String date(int year, int month, int day) {
+        return year + (month < 10 ? "-0" : "-") + month + (day < 10 ? "-0" : "-") + day;
+    }
+
+    // ✅ Lowercase ASCII letters only, as in real bbref ids ("O'Neill" -> "oneil")
+    private static String idPart(String name, int length) {
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder part = new StringBuilder(length);
+        for (int i = 0; i < folded.length() && part.length() < length; i++) {
+            char c = Character.toLowerCase(folded.charAt(i));
+            if (c >= 'a' && c <= 'z') {
+                part.append(c);
+            }
+        }
+        return part.isEmpty() ? "z" : part.toString();
+    }
+
+    private static void appendField(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0) {
+            line.append('"').append(value.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(value);
+        }
+    }
+
+    // SplitMix64 finaliser - spreads consecutive indexes over unrelated streams
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+
+    private static Integer year(String value) {
+        if (value == null || value.length() < 4) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.substring(0, 4));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Integer number(String value) {
+        try {
+            return value == null ? null : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Frequency tables gathered from the source rows
+    private static final class Profile {
+        final Counts<String[]> birthplaces = new Counts<>();
+        final Counts<String> firstNames = new Counts<>();
+        final Counts<String> lastNames = new Counts<>();
+        final Counts<String> middleNames = new Counts<>();
+        final Counts<Integer> birthYears = new Counts<>();
+        final Counts<Integer> birthMonths = new Counts<>();
+        final Map<Integer, Counts<int[]>> bodyByDecade = new LinkedHashMap<>();
+        final Counts<int[]> body = new Counts<>();
+        final Counts<String[]> handedness = new Counts<>();
+        final Counts<Integer> debutAges = new Counts<>();
+        final Counts<Integer> careerYears = new Counts<>();
+        final Counts<Integer> lifespans = new Counts<>();
+        final Map<Integer, Long> bornByDecade = new LinkedHashMap<>();
+        final Map<Integer, Long> diedByDecade = new LinkedHashMap<>();
+        long named;
+        long withMiddleName;
+        long died;
+        long diedWhereBorn;
+        int latestYear;
+
+        void add(String[] row) {
+            Integer birthYear = number(row[BIRTH_YEAR]);
+            Integer debutYear = year(row[DEBUT]);
+            Integer finalYear = year(row[FINAL_GAME]);
+            Integer deathYear = number(row[DEATH_YEAR]);
+            latestYear = Math.max(latestYear, Math.max(finalYear == null ? 0 : finalYear, deathYear == null ? 0 : deathYear));
+
+            if (row[BIRTH_COUNTRY] != null) {
+                birthplaces.add(new String[]{row[BIRTH_COUNTRY], row[BIRTH_STATE], row[BIRTH_CITY]});
+            }
+            if (row[NAME_FIRST] != null) {
+                firstNames.add(row[NAME_FIRST]);
+            }
+            if (row[NAME_LAST] != null) {
+                lastNames.add(row[NAME_LAST]);
+            }
+            if (row[NAME_GIVEN] != null) {
+                named++;
+                int space = row[NAME_GIVEN].indexOf(' ');
+                if (space > 0) {
+                    withMiddleName++;
+                    middleNames.add(row[NAME_GIVEN].substring(space + 1));
+                }
+            }
+            if (row[BATS] != null && row[THROWS] != null) {
+                handedness.add(new String[]{row[BATS], row[THROWS]});
+            }
+            if (birthYear == null) {
+                return;
+            }
+            int decade = birthYear / 10 * 10;
+            birthYears.add(birthYear);
+            Integer birthMonth = number(row[BIRTH_MONTH]);
+            if (birthMonth != null && birthMonth >= 1 && birthMonth <= 12) {
+                birthMonths.add(birthMonth);
+            }
+            Integer height = number(row[HEIGHT]);
+            Integer weight = number(row[WEIGHT]);
+            if (height != null && weight != null) {
+                int[] size = {height, weight};
+                body.add(size);
+                bodyByDecade.computeIfAbsent(decade, d -> new Counts<>()).add(size);
+            }
+            if (debutYear != null) {
+                debutAges.add(debutYear - birthYear);
+                if (finalYear != null) {
+                    careerYears.add(finalYear - debutYear);
+                }
+            }
+            bornByDecade.merge(decade, 1L, Long::sum);
+            if (deathYear != null) {
+                died++;
+                diedByDecade.merge(decade, 1L, Long::sum);
+                lifespans.add(deathYear - birthYear);
+                if (Objects.equals(row[DEATH_COUNTRY], row[BIRTH_COUNTRY])
+                        && Objects.equals(row[DEATH_STATE], row[BIRTH_STATE])) {
+                    diedWhereBorn++;
+                }
+            }
+        }
+    }
+
+    // Insertion-ordered value counts; arrays are keyed by content
+    private static final class Counts<T> {
+        private final Map<Object, Object[]> entries = new LinkedHashMap<>();
+
+        void add(T value) {
+            Object key = value instanceof Object[] array ? Arrays.asList(array)
+                    : value instanceof int[] array ? Arrays.toString(array) : value;
+            Object[] entry = entries.computeIfAbsent(key, k -> new Object[]{value, 0L});
+            entry[1] = (Long) entry[1] + 1;
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        @SuppressWarnings("unchecked")
+        Weighted<T> build() {
+            List<T> values = new ArrayList<>(entries.size());
+            long[] cumulative = new long[entries.size()];
+            long total = 0;
+            int i = 0;
+            for (Object[] entry : entries.values()) {
+                values.add((T) entry[0]);
+                total += (Long) entry[1];
+                cumulative[i++] = total;
+            }
+            return new Weighted<>(values, cumulative);
+        }
+    }
+
+    // Samples values in proportion to how often they were seen
+    private static final class Weighted<T> {
+        private final List<T> values;
+        private final long[] cumulative;
+
+        Weighted(List<T> values, long[] cumulative) {
+            this.values = values;
+            this.cumulative = cumulative;
+        }
+
+        T sample(SplittableRandom random) {
+            if (values.isEmpty()) {
+                throw new IllegalStateException("No source values to sample from");
+            }
+            long pick = random.nextLong(cumulative[cumulative.length - 1]);
+            int i = Arrays.binarySearch(cumulative, pick);
+            return values.get(i >= 0 ? i + 1 : -i - 1);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.app.playerservicejava.service.search;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.loader.PlayerDataLoadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over lower-cased first and last names.
+ * <p>
+ * A character trie where every node at depth &gt;= {@link #MIN_PREFIX_LENGTH} keeps the players whose
+ * first or last name starts with that prefix, sorted by firstName, lastName (the order used by
+ * /v1/players/search). A search is a walk down the trie plus an array slice - no database access.
+ * Readers never lock: writers (serialised) replace posting arrays copy-on-write.
+ * <p>
+ * Entries are slim copies holding only playerId, the names and birthCountry (what the cache
+ * invalidation snapshot needs), streamed from a projection rather than loaded as entities, so the
+ * index stays small on a 50M-row table; callers load the full rows of a result page by id.
+ * Writes made while the table is being read are recorded and applied before the index is used.
+ */
+@Component
+public class PlayerNameIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlayerNameIndex.class);
+
+    public static final int MIN_PREFIX_LENGTH = 2;
+
+    // ✅ Same order as Sort.by("firstName").and(Sort.by("lastName")) on H2 (NULLs first), playerId as tie-break
+    public static final Sort INDEX_SORT = Sort.by("firstName").ascending().and(Sort.by("lastName").ascending());
+
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<Player> ORDER = Comparator
+            .comparing(Player::getFirstName, NULLS_FIRST)
+            .thenComparing(Player::getLastName, NULLS_FIRST)
+            .thenComparing(Player::getPlayerId, NULLS_FIRST);
+
+    private static final Player[] EMPTY = new Player[0];
+    private static final Player REMOVED = new Player(); // marks a delete recorded during a build
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private volatile Map<String, Player> byId = new ConcurrentHashMap<>();
+    private volatile Node root = new Node();
+    private volatile boolean ready;
+    private Map<String, Player> changedDuringBuild; // guarded by this
+    private final Object rebuildLock = new Object();  // one build at a time, without blocking writers
+
+    @EventListener
+    public void onPlayersLoaded(PlayerDataLoadedEvent event) {
+        rebuild(this::readAll);
+    }
+
+    public void rebuild(Collection<Player> players) {
+        rebuild(() -> {
+            Map<String, Player> byPlayerId = new ConcurrentHashMap<>();
+            players.forEach(p -> byPlayerId.put(p.getPlayerId(), slim(p)));
+            return byPlayerId;
+        });
+    }
+
+    // ✅ Read the table without the lock, then build a fresh trie off to the side and swap it in
+    public void rebuild(Supplier<Map<String, Player>> source) {
+        synchronized (rebuildLock) {
+            rebuildFrom(source);
+        }
+    }
+
+    private void rebuildFrom(Supplier<Map<String, Player>> source) {
+        long start = System.nanoTime();
+        Map<String, Player> changed = new ConcurrentHashMap<>();
+        synchronized (this) {
+            changedDuringBuild = changed;
+        }
+        try {
+            Map<String, Player> fresh = source.get();
+            synchronized (this) {
+                // ✅ upsert/remove recorded everything since the read began - their state wins
+                changed.forEach((id, player) -> {
+                    if (player == REMOVED) {
+                        fresh.remove(id);
+                    } else {
+                        fresh.put(id, player);
+                    }
+                });
+                build(fresh, start);
+                changedDuringBuild = null;
+            }
+        } finally {
+            synchronized (this) {
+                if (changedDuringBuild == changed) {
+                    changedDuringBuild = null; // the read failed
+                }
+            }
+        }
+    }
+
+    private Map<String, Player> readAll() {
+        return transactionTemplate.execute(status -> {
+            Map<String, Player> players = new ConcurrentHashMap<>();
+            try (Stream<PlayerRepository.NameColumns> rows = playerRepository.streamNameColumns()) {
+                rows.forEach(row -> {
+                    Player player = new Player();
+                    player.setPlayerId(row.getPlayerId());
+                    player.setFirstName(row.getFirstName());
+                    player.setLastName(row.getLastName());
+                    player.setBirthCountry(row.getBirthCountry());
+                    players.put(player.getPlayerId(), player);
+                });
+            }
+            return players;
+        });
+    }
+
+    private void build(Map<String, Player> fresh, long start) {
+        List<Player> sorted = new ArrayList<>(fresh.values());
+        sorted.sort(ORDER);
+
+        Node newRoot = new Node();
+        for (Player player : sorted) {
+            for (String name : names(player)) {
+                Node node = newRoot;
+                for (int depth = 0; depth < name.length(); depth++) {
+                    node = node.childOrCreate(name.charAt(depth));
+                    if (depth + 1 >= MIN_PREFIX_LENGTH) {
+                        node.appendSorted(player);
+                    }
+                }
+            }
+        }
+        newRoot.seal();
+
+        byId = fresh;
+        root = newRoot;
+        ready = true;
+        LOGGER.info("Built player name index over {} players in {} ms",
+                sorted.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ✅ The index can only answer prefixes it has postings for, in its own sort order
+    public boolean supports(String prefix, Pageable pageable) {
+        Sort sort = pageable.getSort();
+        return ready && prefix != null && prefix.length() >= MIN_PREFIX_LENGTH
+                && (sort.isUnsorted() || sort.equals(INDEX_SORT));
+    }
+
+    public Page<Player> search(String prefix, Pageable pageable) {
+        Player[] postings = postings(normalize(prefix));
+        int from = (int) Math.min(pageable.getOffset(), postings.length);
+        int to = Math.min(from + pageable.getPageSize(), postings.length);
+        return new PageImpl<>(Arrays.asList(postings).subList(from, to), pageable, postings.length);
+    }
+
+    public synchronized void upsert(Player player) {
+        if (player == null || player.getPlayerId() == null) {
+            return;
+        }
+        player = slim(player); // also keeps later in-place edits of the entity out of the sorted postings
+        if (changedDuringBuild != null) {
+            changedDuringBuild.put(player.getPlayerId(), player);
+        }
+        if (!ready) {
+            return;
+        }
+        Player previous = byId.put(player.getPlayerId(), player);
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (String name : names(player)) {
+            Node node = root;
+            for (int depth = 0; depth < name.length(); depth++) {
+                node = node.childOrCreate(name.charAt(depth));
+                if (depth + 1 >= MIN_PREFIX_LENGTH) {
+                    node.insert(player);
+                }
+            }
+        }
+    }
+
+    public synchronized void remove(String playerId) {
+        if (playerId == null) {
+            return;
+        }
+        if (changedDuringBuild != null) {
+            changedDuringBuild.put(playerId, REMOVED);
+        }
+        if (!ready) {
+            return;
+        }
+        Player previous = byId.remove(playerId);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    public Optional<Player> find(String playerId) {
+        return ready && playerId != null ? Optional.ofNullable(byId.get(playerId)) : Optional.empty();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    // ✅ Only the fields the index and its callers use
+    private static Player slim(Player player) {
+        Player copy = new Player();
+        copy.setPlayerId(player.getPlayerId());
+        copy.setFirstName(player.getFirstName());
+        copy.setLastName(player.getLastName());
+        copy.setBirthCountry(player.getBirthCountry());
+        return copy;
+    }
+
+    private void unindex(Player player) {
+        for (String name : names(player)) {
+            Node node = root;
+            for (int depth = 0; depth < name.length() && node != null; depth++) {
+                node = node.child(name.charAt(depth));
+                if (node != null && depth + 1 >= MIN_PREFIX_LENGTH) {
+                    node.delete(player);
+                }
+            }
+        }
+    }
+
+    private Player[] postings(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node == null ? EMPTY : node.postings;
+    }
+
+    // ✅ Distinct normalised names - a player is posted once per node even if both names match
+    private static List<String> names(Player player) {
+        String first = normalize(player.getFirstName());
+        String last = normalize(player.getLastName());
+        List<String> names = new ArrayList<>(2);
+        if (!first.isEmpty()) {
+            names.add(first);
+        }
+        if (!last.isEmpty() && !last.equals(first)) {
+            names.add(last);
+        }
+        return names;
+    }
+
+    static String normalize(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private volatile Edges edges = Edges.NONE;
+        private volatile Player[] postings = EMPTY;
+        private List<Player> building; // only used during rebuild()
+
+        Node child(char c) {
+            Edges e = edges;
+            int i = Arrays.binarySearch(e.keys, c);
+            return i >= 0 ? e.children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            Edges e = edges;
+            int i = Arrays.binarySearch(e.keys, c);
+            if (i >= 0) {
+                return e.children[i];
+            }
+            int at = -i - 1;
+            Node created = new Node();
+            char[] k = new char[e.keys.length + 1];
+            System.arraycopy(e.keys, 0, k, 0, at);
+            k[at] = c;
+            System.arraycopy(e.keys, at, k, at + 1, e.keys.length - at);
+            Node[] ch = new Node[e.children.length + 1];
+            System.arraycopy(e.children, 0, ch, 0, at);
+            ch[at] = created;
+            System.arraycopy(e.children, at, ch, at + 1, e.children.length - at);
+            edges = new Edges(k, ch);
+            return created;
+        }
+
+        void appendSorted(Player player) {
+            if (building == null) {
+                building = new ArrayList<>(4);
+            }
+            if (building.isEmpty() || building.get(building.size() - 1) != player) {
+                building.add(player);
+            }
+        }
+
+        void seal() {
+            if (building != null) {
+                postings = building.toArray(EMPTY);
+                building = null;
+            }
+            for (Node child : edges.children) {
+                child.seal();
+            }
+        }
+
+        void insert(Player player) {
+            Player[] current = postings;
+            int i = Arrays.binarySearch(current, player, ORDER);
+            if (i >= 0) {
+                return; // already posted via the other name
+            }
+            int at = -i - 1;
+            Player[] next = new Player[current.length + 1];
+            System.arraycopy(current, 0, next, 0, at);
+            next[at] = player;
+            System.arraycopy(current, at, next, at + 1, current.length - at);
+            postings = next;
+        }
+
+        void delete(Player player) {
+            Player[] current = postings;
+            int i = Arrays.binarySearch(current, player, ORDER);
+            if (i < 0) {
+                return;
+            }
+            Player[] next = new Player[current.length - 1];
+            System.arraycopy(current, 0, next, 0, i);
+            System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+            postings = next;
+        }
+    }
+
+    // ✅ Keys and children are swapped together so readers always see a matching pair
+    private record Edges(char[] keys, Node[] children) {
+        static final Edges NONE = new Edges(new char[0], new Node[0]);
+    }
+}
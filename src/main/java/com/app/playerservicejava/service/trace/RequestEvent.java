@@ -0,0 +1,30 @@
+package com.app.playerservicejava.service.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A whole HTTP request for JDK Flight Recorder; its {@link StageEvent}s share the correlation id.
+ */
+@Name("com.app.player.Request")
+@Label("HTTP Request")
+@Category({"Player Service", "Requests"})
+@Description("An HTTP request handled by the player service")
+@StackTrace(false)
+public class RequestEvent extends jdk.jfr.Event {
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,29 @@
+package com.app.playerservicejava.service.trace;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records repository calls as the "db" stage and Ollama calls as the "ollama" stage of the
+ * current {@link RequestTrace}.
+ */
+@Aspect
+@Component
+public class RequestStageAspect {
+
+    @Around("execution(* com.app.playerservicejava.repository..*.*(..))")
+    public Object database(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (RequestTrace.Stage ignored = RequestTrace.stage("db")) {
+            return joinPoint.proceed();
+        }
+    }
+
+    @Around("within(com.app.playerservicejava.service.chat.ChatClientService)")
+    public Object ollama(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (RequestTrace.Stage ignored = RequestTrace.stage("ollama")) {
+            return joinPoint.proceed();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.app.playerservicejava.service.trace;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-request timing breakdown, bound to the request thread by {@code CorrelationIdFilter}.
+ * <p>
+ * Code on the request path wraps expensive steps in {@link #stage(String)}; each stage is emitted as a
+ * {@link StageEvent} for Flight Recorder and its time is added to the current request's totals, which
+ * the {@link SlowRequestRecorder} keeps for the slowest requests. Work done on other threads (import
+ * workers, the write coalescer) still produces JFR events, just without a correlation id.
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String correlationId;
+    private final String method;
+    private final String uri;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final Map<String, long[]> stages = new LinkedHashMap<>(8); // name -> {nanos, count}
+    private final RequestEvent event = new RequestEvent();
+
+    private RequestTrace(String correlationId, String method, String uri) {
+        this.correlationId = correlationId;
+        this.method = method;
+        this.uri = uri;
+    }
+
+    public static RequestTrace begin(String correlationId, String method, String uri) {
+        RequestTrace trace = new RequestTrace(correlationId, method, uri);
+        trace.event.begin();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public void end(int status) {
+        CURRENT.remove();
+        event.end();
+        if (event.shouldCommit()) {
+            event.correlationId = correlationId;
+            event.method = method;
+            event.uri = uri;
+            event.status = status;
+            event.commit();
+        }
+    }
+
+    // ✅ try (RequestTrace.Stage ignored = RequestTrace.stage("db")) { ... }
+    public static Stage stage(String name) {
+        return new Stage(name, CURRENT.get());
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    // Copy of the stage totals; only the request thread writes them
+    public Map<String, long[]> stages() {
+        Map<String, long[]> copy = new LinkedHashMap<>();
+        stages.forEach((name, totals) -> copy.put(name, totals.clone()));
+        return copy;
+    }
+
+    private void add(String name, long nanos) {
+        long[] totals = stages.computeIfAbsent(name, n -> new long[2]);
+        totals[0] += nanos;
+        totals[1]++;
+    }
+
+    public static final class Stage implements AutoCloseable {
+
+        private final String name;
+        private final RequestTrace trace;
+        private final StageEvent event = new StageEvent();
+        private final long startNanos = System.nanoTime();
+
+        private Stage(String name, RequestTrace trace) {
+            this.name = name;
+            this.trace = trace;
+            event.begin();
+        }
+
+        @Override
+        public void close() {
+            long nanos = System.nanoTime() - startNanos;
+            if (trace != null) {
+                trace.add(name, nanos);
+            }
+            event.end();
+            if (event.shouldCommit()) { // ✅ false unless a recording has the event enabled and over threshold
+                event.stage = name;
+                event.correlationId = trace == null ? null : trace.correlationId;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.app.playerservicejava.service.trace;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the {@code player.trace.slow-requests.size} slowest requests seen within the last
+ * {@code player.trace.slow-requests.window}, each with its stage breakdown.
+ * <p>
+ * Most requests are turned away by comparing against a volatile admission threshold (the fastest
+ * entry kept, valid until that set could change by expiry) without taking the lock.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    @Value("${player.trace.slow-requests.size:20}")
+    private int size = 20;
+
+    @Value("${player.trace.slow-requests.window:15m}")
+    private Duration window = Duration.ofMinutes(15);
+
+    public record Entry(String correlationId, String method, String uri, int status, Instant startedAt,
+                        long durationNanos, Map<String, long[]> stages) {
+    }
+
+    private final PriorityQueue<Entry> slowest = new PriorityQueue<>(Comparator.comparingLong(Entry::durationNanos));
+
+    private volatile long admitNanos;          // requests at or below this can't get in...
+    private volatile long admitValidUntilMillis; // ...until the oldest kept entry expires
+
+    public void record(RequestTrace trace, int status) {
+        long nanos = trace.elapsedNanos();
+        if (nanos <= admitNanos && System.currentTimeMillis() < admitValidUntilMillis) {
+            return;
+        }
+        Entry entry = new Entry(trace.getCorrelationId(), trace.getMethod(), trace.getUri(), status,
+                trace.getStartedAt(), nanos, trace.stages());
+        synchronized (slowest) {
+            expire();
+            slowest.add(entry);
+            while (slowest.size() > size) {
+                slowest.poll();
+            }
+            updateAdmission();
+        }
+    }
+
+    public List<Map<String, Object>> snapshot() {
+        List<Entry> entries;
+        synchronized (slowest) {
+            expire();
+            updateAdmission();
+            entries = new ArrayList<>(slowest);
+        }
+        entries.sort(Comparator.comparingLong(Entry::durationNanos).reversed());
+        List<Map<String, Object>> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            result.add(toMap(entry));
+        }
+        return result;
+    }
+
+    public void clear() {
+        synchronized (slowest) {
+            slowest.clear();
+            updateAdmission();
+        }
+    }
+
+    private void expire() {
+        Instant cutoff = Instant.now().minus(window);
+        slowest.removeIf(entry -> entry.startedAt().isBefore(cutoff));
+    }
+
+    private void updateAdmission() {
+        if (slowest.size() < size) {
+            admitNanos = 0;
+            admitValidUntilMillis = 0;
+            return;
+        }
+        Instant oldest = slowest.stream().map(Entry::startedAt).min(Comparator.naturalOrder()).orElseThrow();
+        admitNanos = slowest.peek().durationNanos();
+        admitValidUntilMillis = oldest.plus(window).toEpochMilli();
+    }
+
+    private static Map<String, Object> toMap(Entry entry) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("correlationId", entry.correlationId());
+        body.put("method", entry.method());
+        body.put("uri", entry.uri());
+        body.put("status", entry.status());
+        body.put("startedAt", entry.startedAt().toString());
+        body.put("durationMs", millis(entry.durationNanos()));
+        Map<String, Object> stages = new LinkedHashMap<>();
+        long staged = 0;
+        for (Map.Entry<String, long[]> stage : entry.stages().entrySet()) {
+            Map<String, Object> timing = new LinkedHashMap<>();
+            timing.put("ms", millis(stage.getValue()[0]));
+            timing.put("count", stage.getValue()[1]);
+            stages.put(stage.getKey(), timing);
+            staged += stage.getValue()[0];
+        }
+        body.put("stages", stages);
+        body.put("otherMs", millis(Math.max(0, entry.durationNanos() - staged))); // filters, controller, unstaged work
+        return body;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.playerservicejava.service.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One timed step of a request (sleep, db, serialize, auth, ollama) for JDK Flight Recorder.
+ * Disabled recordings cost a branch; no stack trace is captured.
+ */
+@Name("com.app.player.Stage")
+@Label("Request Stage")
+@Category({"Player Service", "Requests"})
+@Description("A timed stage of request processing")
+@StackTrace(false)
+public class StageEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Correlation Id")
+    String correlationId;
+}
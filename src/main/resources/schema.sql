@@ -1,4 +1,40 @@
 DROP TABLE IF EXISTS PLAYERS;
 
--- Create a table from the csv
-CREATE TABLE PLAYERS AS SELECT * FROM CSVREAD('Player.csv');
\ No newline at end of file
+-- Explicit table definition - rows are bulk loaded at startup by PlayerDataLoader
+CREATE TABLE PLAYERS (
+    PLAYERID     VARCHAR(255) NOT NULL PRIMARY KEY,
+    BIRTHYEAR    VARCHAR(255),
+    BIRTHMONTH   VARCHAR(255),
+    BIRTHDAY     VARCHAR(255),
+    BIRTHCOUNTRY VARCHAR(255),
+    BIRTHSTATE   VARCHAR(255),
+    BIRTHCITY    VARCHAR(255),
+    DEATHYEAR    VARCHAR(255),
+    DEATHMONTH   VARCHAR(255),
+    DEATHDAY     VARCHAR(255),
+    DEATHCOUNTRY VARCHAR(255),
+    DEATHSTATE   VARCHAR(255),
+    DEATHCITY    VARCHAR(255),
+    NAMEFIRST    VARCHAR(255),
+    NAMELAST     VARCHAR(255),
+    NAMEGIVEN    VARCHAR(255),
+    WEIGHT       VARCHAR(255),
+    HEIGHT       VARCHAR(255),
+    BATS         VARCHAR(255),
+    THROWS       VARCHAR(255),
+    DEBUT        VARCHAR(255),
+    FINALGAME    VARCHAR(255),
+    RETROID      VARCHAR(255),
+    BBREFID      VARCHAR(255)
+);
+
+CREATE INDEX idx_firstname ON PLAYERS (NAMEFIRST);
+CREATE INDEX idx_lastname ON PLAYERS (NAMELAST);
+
+-- Shared token buckets for player.ratelimit.distributed (see JdbcRateLimitProxyManager)
+CREATE TABLE IF NOT EXISTS RATE_LIMIT_BUCKET (
+    BUCKET_KEY VARCHAR(512) NOT NULL PRIMARY KEY,
+    STATE      VARBINARY(4096) NOT NULL,
+    VERSION    BIGINT NOT NULL,
+    EXPIRES_AT BIGINT NOT NULL
+);
@@ -0,0 +1,80 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.config.CachingAuthenticationProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingAuthenticationProviderTest {
+
+    private final AtomicInteger bcryptChecks = new AtomicInteger();
+    private final PasswordEncoder encoder = new BCryptPasswordEncoder(4) {
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            bcryptChecks.incrementAndGet();
+            return super.matches(rawPassword, encodedPassword);
+        }
+    };
+
+    private InMemoryUserDetailsManager users;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        users = new InMemoryUserDetailsManager(
+                User.withUsername("admin").password(encoder.encode("admin123")).roles("ADMIN").build());
+        provider = new CachingAuthenticationProvider();
+        ReflectionTestUtils.setField(provider, "userDetailsService", users);
+        ReflectionTestUtils.setField(provider, "passwordEncoder", encoder);
+        provider.init();
+    }
+
+    @Test
+    void repeatedCredentialsSkipBcrypt() {
+        Authentication first = provider.authenticate(login("admin", "admin123"));
+        Authentication second = provider.authenticate(login("admin", "admin123"));
+
+        assertEquals(1, bcryptChecks.get());
+        assertTrue(second.isAuthenticated());
+        assertEquals("admin", second.getName());
+        assertNull(second.getCredentials());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+    }
+
+    @Test
+    void wrongPasswordIsNeverServedFromCache() {
+        provider.authenticate(login("admin", "admin123"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("admin", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("admin", "wrong")));
+        assertEquals(3, bcryptChecks.get());
+    }
+
+    @Test
+    void passwordChangeOrDisabledAccountInvalidatesEntry() {
+        provider.authenticate(login("admin", "admin123"));
+
+        users.updateUser(User.withUsername("admin").password(encoder.encode("changed")).roles("ADMIN").build());
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("admin", "admin123")));
+        provider.authenticate(login("admin", "changed"));
+
+        users.updateUser(User.withUsername("admin").password(encoder.encode("changed")).roles("ADMIN")
+                .disabled(true).build());
+        assertThrows(Exception.class, () -> provider.authenticate(login("admin", "changed")));
+    }
+
+    private static UsernamePasswordAuthenticationToken login(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
@@ -0,0 +1,114 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.config.AdaptiveConcurrencyLimit;
+import com.app.playerservicejava.config.ConcurrencyLimitFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void limitShrinksWhenLatencyClimbs() {
+        AdaptiveConcurrencyLimit limit = saturated(new AdaptiveConcurrencyLimit("players", 40, 4, 200), 10 * MS, 200);
+        int before = limit.getLimit();
+
+        saturated(limit, 100 * MS, 50);
+
+        assertTrue(limit.getLimit() < before / 2, before + " -> " + limit.getLimit());
+        assertTrue(limit.getLimit() >= 4);
+    }
+
+    @Test
+    void limitGrowsUnderLoadWhileLatencyIsFlat() {
+        AdaptiveConcurrencyLimit limit = saturated(new AdaptiveConcurrencyLimit("players", 10, 4, 200), 10 * MS, 100);
+
+        assertTrue(limit.getLimit() > 10, "limit " + limit.getLimit());
+    }
+
+    @Test
+    void failuresBackOffAndIdleSamplesAreIgnored() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("chat", 20, 4, 200);
+        limit.tryAcquire();
+        limit.release(1 * MS, false); // 1 in flight of 20 - says nothing about the limit
+        assertEquals(20, limit.getLimit());
+
+        limit.tryAcquire();
+        limit.release(-1, true);
+        assertEquals(18, limit.getLimit());
+    }
+
+    @Test
+    void requestsOverTheLimitAreShedWith503ButActuatorIsNot() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter();
+        ReflectionTestUtils.setField(filter, "initialLimit", 4);
+        filter.init();
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(4);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            pool.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/v1/players/x"),
+                        new MockHttpServletResponse(), blockingChain(started, release));
+                return null;
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse shed = run(filter, "/v1/players/y");
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+        assertEquals(200, run(filter, "/v1/chat/prompt").getStatus());      // other group has its own limit
+        assertEquals(200, run(filter, "/actuator/health").getStatus());     // never limited
+
+        release.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(200, run(filter, "/v1/players/y").getStatus());
+    }
+
+    private static AdaptiveConcurrencyLimit saturated(AdaptiveConcurrencyLimit limit, long rttNanos, int samples) {
+        for (int i = 0; i < samples; i++) {
+            int load = limit.getLimit();
+            int acquired = 0;
+            while (acquired < load && limit.tryAcquire()) {
+                acquired++;
+            }
+            limit.release(rttNanos, false);
+            for (int j = 1; j < acquired; j++) {
+                limit.release(-1, false);
+            }
+        }
+        return limit;
+    }
+
+    private static FilterChain blockingChain(CountDownLatch started, CountDownLatch release) {
+        return (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static MockHttpServletResponse run(ConcurrencyLimitFilter filter, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,62 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.service.loader.CsvLineParser;
+import com.app.playerservicejava.service.loader.PlayerBatchWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvLineParserTest {
+
+    @Test
+    void testParseSimpleLine() {
+        String[] fields = CsvLineParser.parse("aardsda01,1981,12,27,USA,CO,Denver");
+
+        assertEquals(7, fields.length);
+        assertEquals("aardsda01", fields[0]);
+        assertEquals("Denver", fields[6]);
+    }
+
+    @Test
+    void testParseEmptyFieldsAsNull() {
+        String[] fields = CsvLineParser.parse("p1,,,x,");
+
+        assertEquals(5, fields.length);
+        assertNull(fields[1]);
+        assertNull(fields[2]);
+        assertEquals("x", fields[3]);
+        assertNull(fields[4]);
+    }
+
+    @Test
+    void testReadRecordJoinsLinesOfAQuotedField() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader(
+                "p1,\"Hank\r\nLouis\",Aaron\np2,\"say \"\"hi\"\"\nthere\",x\np3,Ty,Cobb\n"));
+
+        assertArrayEquals(new String[]{"p1", "Hank\nLouis", "Aaron"}, CsvLineParser.parse(CsvLineParser.readRecord(reader)));
+        assertArrayEquals(new String[]{"p2", "say \"hi\"\nthere", "x"}, CsvLineParser.parse(CsvLineParser.readRecord(reader)));
+        assertEquals("p3,Ty,Cobb", CsvLineParser.readRecord(reader));
+        assertNull(CsvLineParser.readRecord(reader));
+    }
+
+    @Test
+    void testParseQuotedFields() {
+        String[] fields = CsvLineParser.parse("p1,\"Smith, Jr.\",\"say \"\"hi\"\"\",\"\"\r");
+
+        assertEquals(4, fields.length);
+        assertEquals("Smith, Jr.", fields[1]);
+        assertEquals("say \"hi\"", fields[2]);
+        assertEquals("", fields[3]);
+    }
+
+    @Test
+    void testResolveColumnsRejectsUnknownHeader() {
+        assertArrayEquals(new String[]{"PLAYERID", "NAMEFIRST"},
+                PlayerBatchWriter.resolveColumns(new String[]{"playerID", "nameFirst"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> PlayerBatchWriter.resolveColumns(new String[]{"playerID", "shoeSize"}));
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.cache.PlayerCacheInvalidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerCacheInvalidatorTest {
+
+    private PlayerCacheInvalidator invalidator;
+    private Pageable pageable;
+
+    private static Player player(String country, String first, String last) {
+        Player player = new Player();
+        player.setPlayerId("p1");
+        player.setBirthCountry(country);
+        player.setFirstName(first);
+        player.setLastName(last);
+        return player;
+    }
+
+    @BeforeEach
+    void setUp() {
+        invalidator = new PlayerCacheInvalidator();
+        pageable = PageRequest.of(0, 20);
+    }
+
+    @Test
+    void testWriteOnlyChangesKeysOfAffectedPartitions() {
+        String usa = invalidator.pageKey("USA", pageable);
+        String can = invalidator.pageKey("CAN", pageable);
+        String jo = invalidator.searchKey("Jo", pageable);
+        String ru = invalidator.searchKey("Ru", pageable);
+
+        invalidator.playerChanged(null, player("usa", "John", "Smith"));
+
+        assertNotEquals(usa, invalidator.pageKey("USA", pageable));
+        assertEquals(can, invalidator.pageKey("CAN", pageable));
+        assertNotEquals(jo, invalidator.searchKey("jo", pageable));
+        assertEquals(ru, invalidator.searchKey("Ru", pageable));
+    }
+
+    @Test
+    void testUnfilteredPagesAlwaysInvalidated() {
+        String all = invalidator.pageKey(null, pageable);
+
+        invalidator.playerChanged(player("DOM", "Juan", "Soto"), player("DOM", "Juan", "Soto"));
+
+        assertNotEquals(all, invalidator.pageKey("  ", pageable));
+    }
+
+    @Test
+    void testCountryMoveInvalidatesOldAndNewCountry() {
+        String usa = invalidator.pageKey("USA", pageable);
+        String can = invalidator.pageKey("CAN", pageable);
+
+        invalidator.playerChanged(player("USA", "A", "B"), player("CAN", "A", "B"));
+
+        assertNotEquals(usa, invalidator.pageKey("USA", pageable));
+        assertNotEquals(can, invalidator.pageKey("CAN", pageable));
+    }
+
+    @Test
+    void testInvalidateAllChangesEveryKey() {
+        String can = invalidator.pageKey("CAN", pageable);
+        String ru = invalidator.searchKey("Ru", pageable);
+        String all = invalidator.allPlayersKey();
+
+        invalidator.invalidateAll();
+
+        assertNotEquals(can, invalidator.pageKey("CAN", pageable));
+        assertNotEquals(ru, invalidator.searchKey("Ru", pageable));
+        assertNotEquals(all, invalidator.allPlayersKey());
+    }
+}
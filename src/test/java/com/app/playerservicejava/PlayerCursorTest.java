@@ -0,0 +1,32 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.config.InvalidCursorException;
+import com.app.playerservicejava.model.PlayerCursor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerCursorTest {
+
+    @Test
+    void testRoundTrip() {
+        PlayerCursor cursor = PlayerCursor.decode(new PlayerCursor("USA", "aaronha01").encode());
+
+        assertEquals("USA", cursor.getCountry());
+        assertEquals("aaronha01", cursor.getLastPlayerId());
+    }
+
+    @Test
+    void testRoundTripWithoutCountry() {
+        PlayerCursor cursor = PlayerCursor.decode(new PlayerCursor(null, "aaronha01").encode());
+
+        assertNull(cursor.getCountry());
+        assertEquals("aaronha01", cursor.getLastPlayerId());
+    }
+
+    @Test
+    void testInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> PlayerCursor.decode("not a cursor!"));
+        assertThrows(InvalidCursorException.class, () -> PlayerCursor.decode("Mnx4"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.config.PlayerDBHealthIndicator;
+import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.loader.PlayerDataLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerDBHealthIndicatorTest {
+
+    private PlayerRepository repository;
+    private PlayerDataLoader loader;
+    private PlayerDBHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PlayerRepository.class);
+        loader = mock(PlayerDataLoader.class);
+        when(loader.isLoaded()).thenReturn(true);
+        indicator = new PlayerDBHealthIndicator();
+        ReflectionTestUtils.setField(indicator, "playerRepository", repository);
+        ReflectionTestUtils.setField(indicator, "playerDataLoader", loader);
+    }
+
+    @Test
+    void probesReadTheSnapshotWithoutQuerying() {
+        when(repository.count()).thenReturn(42L);
+        refresh();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Status.UP, indicator.health().getStatus());
+        }
+        assertEquals(42L, indicator.health().getDetails().get("playerCount"));
+        verify(repository, times(1)).count();
+    }
+
+    @Test
+    void failedCheckKeepsLastGoodUntilStale() throws Exception {
+        when(repository.count()).thenReturn(42L).thenThrow(new IllegalStateException("pool exhausted"));
+        refresh();
+        refresh();
+
+        Health health = indicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("pool exhausted", health.getDetails().get("lastError"));
+
+        ReflectionTestUtils.setField(indicator, "staleAfterMillis", 0L);
+        Thread.sleep(5);
+        health = indicator.health();
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("Health check stale", health.getDetails().get("status"));
+    }
+
+    @Test
+    void downUntilBootstrapAndFirstCheck() {
+        when(loader.isLoaded()).thenReturn(false);
+        refresh();
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+        verifyNoInteractions(repository);
+
+        when(loader.isLoaded()).thenReturn(true);
+        assertEquals("Waiting for first health check", indicator.health().getDetails().get("status"));
+    }
+
+    private void refresh() {
+        ReflectionTestUtils.invokeMethod(indicator, "refresh");
+    }
+}
@@ -0,0 +1,127 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.service.PlayerDataChangedEvent;
+import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.export.PlayerExportArtifact;
+import com.app.playerservicejava.service.loader.PlayerDataLoadedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PlayerExportArtifactTest {
+
+    private static final String CSV = "playerId\naardsda01\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void buildsPlainAndGzipFilesAfterLoad() throws Exception {
+        PlayerExportArtifact artifact = artifact(mockService());
+        assertTrue(artifact.current(false).isEmpty());
+
+        artifact.onPlayersLoaded(new PlayerDataLoadedEvent(this, "test", 1, 0));
+        PlayerExportArtifact.ExportFile plain = awaitBuild(artifact, null);
+        PlayerExportArtifact.ExportFile gzip = artifact.current(true).orElseThrow();
+
+        assertEquals(CSV, Files.readString(plain.path()));
+        assertEquals(CSV.length(), plain.length());
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gzip.path()))) {
+            assertEquals(CSV, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertNotEquals(plain.etag(), gzip.etag());
+    }
+
+    @Test
+    void rebuildAfterWriteKeepsEtagWhenContentIsUnchanged() throws Exception {
+        PlayerExportArtifact artifact = artifact(mockService());
+        ReflectionTestUtils.setField(artifact, "retiredGraceMillis", 50L);
+        artifact.onPlayersLoaded(new PlayerDataLoadedEvent(this, "test", 1, 0));
+        PlayerExportArtifact.ExportFile first = awaitBuild(artifact, null);
+
+        artifact.onPlayersChanged(new PlayerDataChangedEvent(this));
+        PlayerExportArtifact.ExportFile second = awaitBuild(artifact, first.path());
+
+        assertEquals(first.etag(), second.etag());
+        for (int i = 0; i < 500 && Files.exists(first.path()); i++) {
+            Thread.sleep(10); // old versions are unlinked once their grace period is over
+        }
+        assertFalse(Files.exists(first.path()), "superseded version is deleted");
+    }
+
+    @Test
+    void replacedVersionStaysReadableForRequestsThatAlreadyPickedIt() throws Exception {
+        PlayerExportArtifact artifact = artifact(mockService());
+        artifact.onPlayersLoaded(new PlayerDataLoadedEvent(this, "test", 1, 0));
+        PlayerExportArtifact.ExportFile picked = awaitBuild(artifact, null);
+        PlayerExportArtifact.ExportFile pickedGzip = artifact.current(true).orElseThrow();
+
+        artifact.onPlayersChanged(new PlayerDataChangedEvent(this));
+        awaitBuild(artifact, picked.path());
+        Thread.sleep(200);
+
+        assertEquals(CSV, Files.readString(picked.path())); // opened only now, after the swap
+        assertTrue(Files.exists(pickedGzip.path()));
+    }
+
+    @Test
+    void rebuildWaitsForTheLastWriteOfABurst() throws Exception {
+        PlayerService playerService = mockService();
+        PlayerExportArtifact artifact = artifact(playerService);
+        ReflectionTestUtils.setField(artifact, "rebuildDelayMillis", 200L);
+        artifact.onPlayersLoaded(new PlayerDataLoadedEvent(this, "test", 1, 0));
+        PlayerExportArtifact.ExportFile first = awaitBuild(artifact, null);
+
+        for (int i = 0; i < 5; i++) {
+            artifact.onPlayersChanged(new PlayerDataChangedEvent(this));
+            Thread.sleep(100); // each write lands before the previous one's delay ran out
+        }
+        assertEquals(first.path(), artifact.current(false).orElseThrow().path(), "no rebuild in the middle of the burst");
+
+        awaitBuild(artifact, first.path());
+        Thread.sleep(300);
+        verify(playerService, times(2)).streamAllPlayers(any()); // initial build + one for the whole burst
+    }
+
+    private PlayerExportArtifact artifact(PlayerService playerService) {
+        PlayerExportArtifact artifact = new PlayerExportArtifact();
+        ReflectionTestUtils.setField(artifact, "enabled", true);
+        ReflectionTestUtils.setField(artifact, "dir", dir.toString());
+        ReflectionTestUtils.setField(artifact, "rebuildDelayMillis", 10L);
+        ReflectionTestUtils.setField(artifact, "playerService", playerService);
+        return artifact;
+    }
+
+    private static PlayerService mockService() throws Exception {
+        PlayerService playerService = mock(PlayerService.class);
+        when(playerService.streamAllPlayers(any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write(CSV.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        return playerService;
+    }
+
+    private static PlayerExportArtifact.ExportFile awaitBuild(PlayerExportArtifact artifact, Path previous)
+            throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            PlayerExportArtifact.ExportFile file = artifact.current(false).orElse(null);
+            if (file != null && !file.path().equals(previous)) {
+                return file;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("export artifact was not built");
+    }
+}
@@ -0,0 +1,156 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.export.PlayerColumnarWriter;
+import com.app.playerservicejava.service.export.PlayerExportFormat;
+import com.app.playerservicejava.service.export.PlayerExportWriter;
+import com.app.playerservicejava.service.export.PlayerField;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerExportFormatTest {
+
+    @Test
+    void resolvesFormatFromParameterAndAcceptHeader() {
+        assertEquals(PlayerExportFormat.NDJSON, PlayerExportFormat.fromParameter("NDJSON").orElseThrow());
+        assertTrue(PlayerExportFormat.fromParameter("xml").isEmpty());
+
+        assertEquals(PlayerExportFormat.CSV, PlayerExportFormat.fromAccept(null));
+        assertEquals(PlayerExportFormat.CSV, PlayerExportFormat.fromAccept("*/*"));
+        assertEquals(PlayerExportFormat.NDJSON, PlayerExportFormat.fromAccept("application/x-ndjson"));
+        assertEquals(PlayerExportFormat.COLUMNAR,
+                PlayerExportFormat.fromAccept("text/csv;q=0.5, application/vnd.players.columnar"));
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLineWithApiPropertyNames() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export(PlayerExportFormat.NDJSON, out, player("aaronha01", "Hank", "1934", "USA"), player("x\"1", null, null, null));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("Hank", first.get("firstName").asText());
+        assertEquals("1934", first.get("birthYear").asText());
+        assertTrue(first.get("deathYear").isNull());
+        assertEquals(PlayerField.values().length, first.size());
+        assertEquals("x\"1", new ObjectMapper().readTree(lines[1]).get("playerId").asText());
+    }
+
+    @Test
+    void columnarRoundTripsAcrossRowGroups() throws IOException {
+        int count = PlayerColumnarWriter.ROW_GROUP_SIZE + 10;
+        Player[] players = new Player[count];
+        for (int i = 0; i < count; i++) {
+            players[i] = player("p" + i, i % 7 == 0 ? null : "Name" + i,
+                    i % 5 == 0 ? null : String.valueOf(1900 + i % 100), i % 2 == 0 ? "USA" : "CAN");
+        }
+        players[3].setWeight("about 200"); // not an int - that group's weight block falls back to text
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export(PlayerExportFormat.COLUMNAR, out, players);
+        List<String[]> rows = readColumnar(out.toByteArray());
+
+        assertEquals(count, rows.size());
+        for (int i = 0; i < count; i++) {
+            for (PlayerField field : PlayerField.values()) {
+                assertEquals(field.get(players[i]), rows.get(i)[field.ordinal()], field + " row " + i);
+            }
+        }
+    }
+
+    private static void export(PlayerExportFormat format, ByteArrayOutputStream out, Player... players)
+            throws IOException {
+        PlayerExportWriter writer = format.newWriter(out);
+        writer.writeHeader();
+        for (Player player : players) {
+            writer.writeRow(player);
+        }
+        writer.finish();
+    }
+
+    private static Player player(String id, String firstName, String birthYear, String country) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setFirstName(firstName);
+        player.setBirthYear(birthYear);
+        player.setBirthCountry(country);
+        player.setWeight("200");
+        return player;
+    }
+
+    // ✅ Reference decoder for the layout documented on PlayerColumnarWriter
+    private static List<String[]> readColumnar(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte[] magic = new byte[4];
+        in.readFully(magic);
+        assertArrayEquals(PlayerColumnarWriter.MAGIC, magic);
+        assertEquals(PlayerColumnarWriter.VERSION, in.readUnsignedByte());
+        int columns = readVarint(in);
+        for (int c = 0; c < columns; c++) {
+            assertEquals(PlayerField.values()[c].getJsonName(), readString(in));
+            assertEquals(PlayerField.values()[c].getKind().ordinal(), in.readUnsignedByte());
+        }
+
+        List<String[]> rows = new ArrayList<>();
+        int groupRows;
+        while ((groupRows = readVarint(in)) > 0) {
+            String[][] group = new String[groupRows][columns];
+            for (int c = 0; c < columns; c++) {
+                int encoding = in.readUnsignedByte();
+                if (encoding == PlayerColumnarWriter.ENCODING_DICTIONARY) {
+                    String[] dictionary = new String[readVarint(in)];
+                    for (int i = 0; i < dictionary.length; i++) {
+                        dictionary[i] = readString(in);
+                    }
+                    for (int r = 0; r < groupRows; r++) {
+                        int code = readVarint(in);
+                        group[r][c] = code == 0 ? null : dictionary[code - 1];
+                    }
+                } else {
+                    byte[] bitmap = new byte[(groupRows + 7) / 8];
+                    in.readFully(bitmap);
+                    for (int r = 0; r < groupRows; r++) {
+                        if ((bitmap[r / 8] & (1 << (r % 8))) != 0) {
+                            group[r][c] = encoding == PlayerColumnarWriter.ENCODING_INT
+                                    ? String.valueOf(in.readInt()) : readString(in);
+                        }
+                    }
+                }
+            }
+            rows.addAll(Arrays.asList(group));
+        }
+        assertEquals(rows.size(), in.readLong());
+        assertEquals(-1, in.read());
+        return rows;
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarint(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,66 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.service.cache.PlayerIdFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerIdFilterTest {
+
+    @Test
+    void everyIdMightExistUntilBuilt() {
+        PlayerIdFilter filter = new PlayerIdFilter();
+
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("anything"));
+    }
+
+    @Test
+    void neverDeniesAnAddedId() {
+        PlayerIdFilter filter = new PlayerIdFilter();
+        List<String> ids = ids("aaron", 20_000);
+        filter.rebuild(ids.subList(0, 10_000));
+        ids.subList(10_000, 20_000).forEach(filter::add);
+
+        ids.forEach(id -> assertTrue(filter.mightContain(id), id));
+    }
+
+    @Test
+    void keepsIdsAddedDuringARebuild() {
+        PlayerIdFilter filter = new PlayerIdFilter();
+        List<String> stored = ids("aaron", 10_000);
+        filter.rebuild(stored);
+        filter.add("uncommitted01"); // added before the rebuild, row not visible to its query
+
+        filter.rebuild(() -> {
+            filter.add("concurrent01"); // added while the table is being read
+            return stored;
+        });
+
+        assertTrue(filter.mightContain("concurrent01"));
+        assertTrue(filter.mightContain("uncommitted01"));
+        stored.forEach(id -> assertTrue(filter.mightContain(id), id));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        PlayerIdFilter filter = new PlayerIdFilter();
+        filter.rebuild(ids("aaron", 50_000));
+
+        long falsePositives = ids("zzprobe", 100_000).stream().filter(filter::mightContain).count();
+
+        // sized for 2x the population at 1%, so a full-ish filter should sit well under 2%
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    private static List<String> ids(String prefix, int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(prefix + i + "01");
+        }
+        return ids;
+    }
+}
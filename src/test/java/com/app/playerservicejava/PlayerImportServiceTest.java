@@ -0,0 +1,247 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.config.ImportQueueFullException;
+import com.app.playerservicejava.config.ImportTooLargeException;
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.ingest.ImportFormat;
+import com.app.playerservicejava.service.ingest.ImportJob;
+import com.app.playerservicejava.service.ingest.PlayerImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PlayerImportServiceTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private PlayerService playerService;
+    private PlayerImportService importService;
+    private final List<List<Player>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        playerService = mock(PlayerService.class);
+        when(playerService.bulkCreatePlayers(anyList())).thenAnswer(invocation -> {
+            List<Player> chunk = new ArrayList<>((List<Player>) invocation.getArgument(0));
+            chunks.add(chunk);
+            List<String> created = new ArrayList<>();
+            List<String> failed = new ArrayList<>();
+            for (Player player : chunk) {
+                if (player.getPlayerId().startsWith("dup")) {
+                    failed.add(player.getPlayerId() + " (already exists)");
+                } else {
+                    created.add(player.getPlayerId());
+                }
+            }
+            return Map.of("createdIds", created, "failedIds", failed);
+        });
+
+        importService = new PlayerImportService();
+        ReflectionTestUtils.setField(importService, "playerService", playerService);
+        ReflectionTestUtils.setField(importService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(importService, "spoolDir", spoolDir.toString());
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        importService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(importService, "shutdown");
+    }
+
+    @Test
+    void csvImportIsChunkedAndMapsHeaderColumns() throws Exception {
+        String csv = "\uFEFFplayerID,nameFirst,nameLast,birthYear\n"
+                + "a01,Hank,Aaron,1934\n"
+                + "dup01,\"Babe, Jr\",Ruth,1895\n"
+                + "\n"
+                + "c01,Ty,Cobb,1886\n";
+
+        ImportJob job = importService.submit(stream(csv), ImportFormat.CSV, false);
+        Map<String, Object> state = awaitFinished(job);
+
+        assertEquals("COMPLETED", state.get("status"));
+        assertEquals(3L, state.get("rowsRead"));
+        assertEquals(2L, state.get("rowsCreated"));
+        assertEquals(1L, state.get("rowsFailed"));
+        assertEquals(List.of("dup01 (already exists)"), state.get("failures"));
+
+        List<?> chunkStats = (List<?>) state.get("chunks");
+        assertEquals(2, chunkStats.size());
+        assertEquals("PARTIAL", ((Map<?, ?>) chunkStats.get(0)).get("status"));
+        assertEquals("COMMITTED", ((Map<?, ?>) chunkStats.get(1)).get("status"));
+
+        Player ruth = chunks.get(0).get(1);
+        assertEquals("Babe, Jr", ruth.getFirstName());
+        assertEquals("Ruth", ruth.getLastName());
+        assertEquals("1895", ruth.getBirthYear());
+    }
+
+    @Test
+    void csvImportReadsQuotedFieldsSpanningLines() throws Exception {
+        String csv = "playerID,nameFirst,nameLast\n"
+                + "a01,\"Hank\nLouis\",Aaron\n"
+                + "b01,Babe,Ruth\n";
+
+        ImportJob job = importService.submit(stream(csv), ImportFormat.CSV, false);
+        Map<String, Object> state = awaitFinished(job);
+
+        assertEquals("COMPLETED", state.get("status"));
+        assertEquals(2L, state.get("rowsCreated"));
+        assertEquals("Hank\nLouis", chunks.get(0).get(0).getFirstName());
+        assertEquals("Ruth", chunks.get(0).get(1).getLastName());
+    }
+
+    @Test
+    void gzipNdjsonImportIgnoresUnknownProperties() throws Exception {
+        String ndjson = "{\"playerId\":\"n01\",\"firstName\":\"Willie\",\"extra\":1}\n"
+                + "{\"playerId\":\"n02\",\"firstName\":\"Mickey\"}\n"
+                + "{\"playerId\":\"n03\",\"firstName\":\"Yogi\"}\n";
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(ndjson.getBytes(StandardCharsets.UTF_8));
+        }
+
+        ImportJob job = importService.submit(new ByteArrayInputStream(compressed.toByteArray()), ImportFormat.NDJSON, true);
+        Map<String, Object> state = awaitFinished(job);
+
+        assertEquals("COMPLETED", state.get("status"));
+        assertEquals(3L, state.get("rowsCreated"));
+        assertEquals(2, ((List<?>) state.get("chunks")).size());
+        assertEquals("Willie", chunks.get(0).get(0).getFirstName());
+        assertTrue(importService.find(job.getId()).isPresent());
+    }
+
+    @Test
+    void unknownCsvColumnFailsTheJob() throws Exception {
+        ImportJob job = importService.submit(stream("playerID,shoeSize\nx,12\n"), ImportFormat.CSV, false);
+        Map<String, Object> state = awaitFinished(job);
+
+        assertEquals("FAILED", state.get("status"));
+        assertTrue(((String) state.get("error")).contains("shoeSize"));
+        verify(playerService, never()).bulkCreatePlayers(anyList());
+    }
+
+    @Test
+    void oversizedUploadIsRejectedAndLeavesNoSpoolFile() throws Exception {
+        ReflectionTestUtils.setField(importService, "maxBytes", 16L);
+
+        assertThrows(ImportTooLargeException.class,
+                () -> importService.submit(stream("playerID,nameFirst\na01,Hank\nb01,Babe\n"), ImportFormat.CSV, false));
+
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+        verify(playerService, never()).bulkCreatePlayers(anyList());
+    }
+
+    @Test
+    void concurrentUploadsBeyondTheSlotsAreTurnedAwayBeforeSpooling() throws Exception {
+        CountDownLatch bodiesArrive = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<ImportJob>> uploads = new ArrayList<>();
+            for (int i = 0; i < 6; i++) { // workers (2) + queue-capacity (4), all still uploading
+                String body = "playerID,nameFirst\nslow" + i + ",Hank\n";
+                uploads.add(clients.submit(() -> importService.submit(slowBody(body, bodiesArrive), ImportFormat.CSV, false)));
+            }
+            for (int i = 0; i < 500 && spoolFiles() < 6; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(6, spoolFiles());
+
+            assertThrows(ImportQueueFullException.class,
+                    () -> importService.submit(stream("playerID,nameFirst\nlate,Ty\n"), ImportFormat.CSV, false));
+            assertEquals(6, spoolFiles(), "the rejected upload was not spooled");
+
+            bodiesArrive.countDown();
+            for (Future<ImportJob> upload : uploads) {
+                assertEquals("COMPLETED", awaitFinished(upload.get(5, TimeUnit.SECONDS)).get("status"));
+            }
+            ImportJob after = importService.submit(stream("playerID,nameFirst\nlate,Ty\n"), ImportFormat.CSV, false);
+            assertEquals("COMPLETED", awaitFinished(after).get("status")); // slots were given back
+        } finally {
+            bodiesArrive.countDown();
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void cleanupDeletesOrphanedSpoolFilesOnly() throws Exception {
+        Path orphan = Files.writeString(spoolDir.resolve("left-over.gz"), "x");
+        Files.setLastModifiedTime(orphan, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        Path recent = Files.writeString(spoolDir.resolve("uploading"), "x");
+
+        ReflectionTestUtils.invokeMethod(importService, "cleanUp");
+
+        assertFalse(Files.exists(orphan));
+        assertTrue(Files.exists(recent));
+    }
+
+    private long spoolFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.count();
+        }
+    }
+
+    // ✅ An upload whose bytes only arrive once the latch opens
+    private static InputStream slowBody(String body, CountDownLatch arrive) {
+        return new FilterInputStream(stream(body)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                try {
+                    arrive.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                return super.read(b, off, len);
+            }
+        };
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Object> awaitFinished(ImportJob job) throws InterruptedException, IOException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isFinished(), "import job did not finish in time");
+        return job.toMap();
+    }
+}
@@ -0,0 +1,81 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.cache.PlayerLookupCoalescer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerLookupCoalescerTest {
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        PlayerLookupCoalescer coalescer = new PlayerLookupCoalescer();
+        Player player = new Player();
+        player.setPlayerId("ruthba01");
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Player>> first = pool.submit(() -> coalescer.load("ruthba01", () -> {
+                loaderCalls.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of(player);
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            Future<Optional<Player>> second = pool.submit(() -> coalescer.load("ruthba01", () -> {
+                loaderCalls.incrementAndGet();
+                return Optional.empty();
+            }));
+            while (coalescer.getCoalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertSame(player, first.get(5, TimeUnit.SECONDS).orElseThrow());
+            assertSame(player, second.get(5, TimeUnit.SECONDS).orElseThrow());
+            assertEquals(1, loaderCalls.get());
+            assertEquals(1, coalescer.getLoadCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testNextLoadAfterCompletionRunsAgain() {
+        PlayerLookupCoalescer coalescer = new PlayerLookupCoalescer();
+
+        coalescer.load("p1", Optional::empty);
+        coalescer.load("p1", Optional::empty);
+
+        assertEquals(2, coalescer.getLoadCount());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void testLoaderFailurePropagates() {
+        PlayerLookupCoalescer coalescer = new PlayerLookupCoalescer();
+
+        assertThrows(IllegalStateException.class, () -> coalescer.load("p1", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(Optional.empty(), coalescer.load("p1", Optional::empty));
+    }
+}
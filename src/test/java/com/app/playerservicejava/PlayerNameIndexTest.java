@@ -0,0 +1,107 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerNameIndexTest {
+
+    private PlayerNameIndex index;
+    private Pageable firstPage;
+
+    private static Player player(String id, String first, String last) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setFirstName(first);
+        player.setLastName(last);
+        return player;
+    }
+
+    private static List<String> ids(Page<Player> page) {
+        return page.getContent().stream().map(Player::getPlayerId).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerNameIndex();
+        index.rebuild(List.of(
+                player("jonesja01", "Jake", "Jones"),
+                player("johnsra01", "Randy", "Johnson"),
+                player("aaronha01", "Hank", "Aaron"),
+                player("jonesjo01", "Jo", "Jones")
+        ));
+        firstPage = PageRequest.of(0, 10, PlayerNameIndex.INDEX_SORT);
+    }
+
+    @Test
+    void testSearchMatchesFirstOrLastNameInSortOrder() {
+        Page<Player> result = index.search("JO", firstPage);
+
+        // Jake Jones, Jo Jones, Randy Johnson - ordered by firstName then lastName
+        assertEquals(List.of("jonesja01", "jonesjo01", "johnsra01"), ids(result));
+        assertEquals(3, result.getTotalElements());
+    }
+
+    @Test
+    void testSearchPaginates() {
+        Page<Player> second = index.search("jo", PageRequest.of(1, 2, PlayerNameIndex.INDEX_SORT));
+
+        assertEquals(List.of("johnsra01"), ids(second));
+        assertEquals(3, second.getTotalElements());
+        assertEquals(2, second.getTotalPages());
+    }
+
+    @Test
+    void testUpsertMovesPlayerBetweenPrefixes() {
+        index.upsert(player("aaronha01", "Hank", "Johns"));
+
+        assertEquals(4, index.search("jo", firstPage).getTotalElements());
+        assertEquals(0, index.search("aa", firstPage).getTotalElements());
+    }
+
+    @Test
+    void testRemove() {
+        index.remove("jonesjo01");
+
+        assertEquals(List.of("jonesja01", "johnsra01"), ids(index.search("jo", firstPage)));
+    }
+
+    @Test
+    void testWritesDuringABuildAreKept() {
+        PlayerNameIndex building = new PlayerNameIndex();
+        building.rebuild(() -> {
+            // the table was read, then these landed before the index was ready
+            Map<String, Player> read = new HashMap<>();
+            read.put("jonesja01", player("jonesja01", "Jake", "Jones"));
+            read.put("aaronha01", player("aaronha01", "Hank", "Aaron"));
+            building.upsert(player("johnsra01", "Randy", "Johnson"));
+            building.remove("jonesja01");
+            building.upsert(player("aaronha01", "Hank", "Jordan"));
+            return read;
+        });
+
+        assertTrue(building.isReady());
+        assertEquals(List.of("aaronha01", "johnsra01"), ids(building.search("jo", firstPage)));
+        assertEquals(0, building.search("aa", firstPage).getTotalElements());
+        assertTrue(building.find("jonesja01").isEmpty());
+    }
+
+    @Test
+    void testSupportsOnlyIndexOrderAndLongEnoughPrefixes() {
+        assertTrue(index.supports("jo", firstPage));
+        assertFalse(index.supports("j", firstPage));
+        assertFalse(index.supports("jo", PageRequest.of(0, 10, Sort.by("playerId"))));
+    }
+}
@@ -3,21 +3,45 @@ package com.app.playerservicejava;
 import com.app.playerservicejava.model.Player;
 import com.app.playerservicejava.model.Players;
 import com.app.playerservicejava.repository.PlayerRepository;
+import com.app.playerservicejava.service.PlayerDataChangedEvent;
 import com.app.playerservicejava.service.PlayerService;
+import com.app.playerservicejava.service.cache.PlayerCacheInvalidator;
+import com.app.playerservicejava.service.cache.PlayerIdFilter;
+import com.app.playerservicejava.service.cache.PlayerLookupCoalescer;
+import com.app.playerservicejava.service.export.PlayerCsvWriter;
+import com.app.playerservicejava.service.export.PlayerExportFormat;
+import com.app.playerservicejava.service.export.PlayerExportMetrics;
+import com.app.playerservicejava.service.bulk.PlayerBulkInserter;
+import com.app.playerservicejava.service.bulk.PlayerBulkUpdater;
+import com.app.playerservicejava.service.bulk.PlayerWriteCoalescer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +53,39 @@ class PlayerServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private PlayerNameIndex playerNameIndex;
+
+    @Mock
+    private PlayerCacheInvalidator playerCacheInvalidator;
+
+    @Spy
+    private PlayerLookupCoalescer playerLookupCoalescer = new PlayerLookupCoalescer();
+
+    @Spy
+    private PlayerIdFilter playerIdFilter = new PlayerIdFilter();
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PlayerBulkInserter playerBulkInserter = new PlayerBulkInserter();
+
+    @Spy
+    private PlayerBulkUpdater playerBulkUpdater = new PlayerBulkUpdater();
+
+    @Mock
+    private PlayerWriteCoalescer playerWriteCoalescer;
+
+    @Spy
+    private PlayerExportMetrics playerExportMetrics = new PlayerExportMetrics();
+
     @InjectMocks
     private PlayerService playerService;
 
@@ -47,6 +104,17 @@ class PlayerServiceTest {
         testPlayer.setHeight("75");
 
         testPageable = PageRequest.of(0, 10);
+
+        ReflectionTestUtils.setField(playerBulkInserter, "playerRepository", playerRepository);
+        ReflectionTestUtils.setField(playerBulkInserter, "playerIdFilter", playerIdFilter);
+        ReflectionTestUtils.setField(playerBulkInserter, "entityManager", entityManager);
+        ReflectionTestUtils.setField(playerBulkInserter, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(playerBulkUpdater, "playerRepository", playerRepository);
+        ReflectionTestUtils.setField(playerBulkUpdater, "playerIdFilter", playerIdFilter);
+        ReflectionTestUtils.setField(playerBulkUpdater, "entityManager", entityManager);
+        ReflectionTestUtils.setField(playerBulkUpdater, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
     }
 
     @Test
@@ -108,6 +176,31 @@ class PlayerServiceTest {
         verify(playerRepository, times(1)).findAll(testPageable);
     }
 
+    @Test
+    void testGetPlayersAfterWithNextPage() {
+        Player next = new Player();
+        next.setPlayerId("player124");
+        when(playerRepository.findByPlayerIdGreaterThanOrderByPlayerIdAsc("", Limit.of(2)))
+                .thenReturn(Arrays.asList(testPlayer, next));
+
+        Slice<Player> result = playerService.getPlayersAfter(null, null, 1);
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    void testGetPlayersAfterWithCountryLastPage() {
+        when(playerRepository.findByBirthCountryIgnoreCaseAndPlayerIdGreaterThanOrderByPlayerIdAsc(
+                "USA", "player100", Limit.of(11)))
+                .thenReturn(Arrays.asList(testPlayer));
+
+        Slice<Player> result = playerService.getPlayersAfter(" USA ", "player100", 10);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.hasNext());
+    }
+
     @Test
     void testGetPlayerById() throws InterruptedException {
         when(playerRepository.findById("player123")).thenReturn(Optional.of(testPlayer));
@@ -138,6 +231,69 @@ class PlayerServiceTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void testGetPlayerByIdDefiniteMissSkipsRepository() {
+        playerIdFilter.rebuild(List.of("player123"));
+
+        Optional<Player> result = playerService.getPlayerById("bot-probe-42");
+
+        assertFalse(result.isPresent());
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void testExistsByIdChecksRepositoryOnlyWhenFilterMatches() {
+        playerIdFilter.rebuild(List.of("player123"));
+        when(playerRepository.existsById("player123")).thenReturn(true);
+
+        assertTrue(playerService.existsById("player123"));
+        assertFalse(playerService.existsById("bot-probe-42"));
+        assertFalse(playerService.existsById(null));
+        verify(playerRepository, times(1)).existsById(anyString());
+        verify(playerRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void testGetPlayersByIdsUsesCacheThenOneQuery() {
+        Player cached = new Player();
+        cached.setPlayerId("cached01");
+        ConcurrentMapCache cache = new ConcurrentMapCache("players");
+        cache.put("cached01", cached);
+        when(cacheManager.getCache("players")).thenReturn(cache);
+        when(playerRepository.findAllById(List.of("player123", "missing01"))).thenReturn(List.of(testPlayer));
+
+        Map<String, Object> result = playerService.getPlayersByIds(
+                List.of("player123", "cached01", "missing01", "player123"));
+
+        assertEquals(List.of(testPlayer, cached), result.get("players"));
+        assertEquals(List.of("missing01"), result.get("notFound"));
+        assertSame(testPlayer, cache.get("player123", Player.class));
+        verify(playerRepository, times(1)).findAllById(any());
+        verify(playerRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void testGetPlayersByIdsAllCachedSkipsRepository() {
+        ConcurrentMapCache cache = new ConcurrentMapCache("players");
+        cache.put("player123", testPlayer);
+        when(cacheManager.getCache("players")).thenReturn(cache);
+
+        Map<String, Object> result = playerService.getPlayersByIds(List.of("player123"));
+
+        assertEquals(List.of(testPlayer), result.get("players"));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void testCreatePlayerAddsIdToFilter() {
+        playerIdFilter.rebuild(List.of());
+        when(playerRepository.save(testPlayer)).thenReturn(testPlayer);
+
+        playerService.createPlayer(testPlayer);
+
+        assertTrue(playerIdFilter.mightContain("player123"));
+    }
+
     @Test
     void testCreatePlayer() {
         when(playerRepository.save(testPlayer)).thenReturn(testPlayer);
@@ -160,6 +316,20 @@ class PlayerServiceTest {
         verify(playerRepository, times(1)).deleteById("player123");
     }
 
+    @Test
+    void testSavePlayerInvalidatesOnlyAffectedPartitions() {
+        Player previous = new Player();
+        previous.setPlayerId("player123");
+        previous.setBirthCountry("CAN");
+        when(playerNameIndex.find("player123")).thenReturn(Optional.of(previous));
+        when(playerRepository.save(testPlayer)).thenReturn(testPlayer);
+
+        playerService.savePlayer(testPlayer);
+
+        verify(playerCacheInvalidator).playerChanged(argThat(p -> "CAN".equals(p.getBirthCountry())), eq(testPlayer));
+        verify(playerCacheInvalidator, never()).invalidateAll();
+    }
+
     @Test
     void testDeletePlayerNotFound() {
         when(playerRepository.existsById("notfound")).thenReturn(false);
@@ -193,6 +363,20 @@ class PlayerServiceTest {
         verify(playerRepository, times(1)).searchByNamePrefix("Jo", testPageable);
     }
 
+    @Test
+    void testSearchPlayersByNameUsesIndexWhenReady() {
+        Page<Player> playerPage = new PageImpl<>(Arrays.asList(testPlayer), testPageable, 1);
+        when(playerNameIndex.supports("Jo", testPageable)).thenReturn(true);
+        when(playerNameIndex.search("Jo", testPageable)).thenReturn(playerPage);
+        when(playerRepository.findAllById(List.of(testPlayer.getPlayerId()))).thenReturn(List.of(testPlayer));
+
+        Page<Player> result = playerService.searchPlayersByName("Jo", testPageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertSame(testPlayer, result.getContent().get(0)); // the full row, not the index's slim entry
+        verify(playerRepository, never()).searchByNamePrefix(anyString(), any());
+    }
+
     @Test
     void testSearchPlayersByNameEmpty() {
         Page<Player> playerPage = new PageImpl<>(Collections.emptyList(), testPageable, 0);
@@ -214,13 +398,15 @@ class PlayerServiceTest {
         player2.setPlayerId("p2");
         player2.setFirstName("Player2");
 
-        when(playerRepository.existsById(anyString())).thenReturn(false);
-        when(playerRepository.save(any(Player.class))).thenReturn(player1).thenReturn(player2);
-
         Map<String, Object> result = playerService.bulkCreatePlayers(Arrays.asList(player1, player2));
 
-        assertEquals(2, ((List<?>) result.get("createdIds")).size());
+        assertEquals(List.of("p1", "p2"), result.get("createdIds"));
         assertEquals(0, ((List<?>) result.get("failedIds")).size());
+        verify(playerRepository, times(1)).findExistingPlayerIds(List.of("p1", "p2"));
+        verify(entityManager, times(2)).persist(any(Player.class));
+        verify(entityManager, times(1)).flush();
+        verify(playerRepository, never()).save(any());
+        verify(playerCacheInvalidator, times(1)).playersChanged(List.of(), List.of(player1, player2));
     }
 
     @Test
@@ -229,7 +415,7 @@ class PlayerServiceTest {
         player.setPlayerId("duplicate");
         player.setFirstName("Test");
 
-        when(playerRepository.existsById("duplicate")).thenReturn(true);
+        when(playerRepository.findExistingPlayerIds(List.of("duplicate"))).thenReturn(List.of("duplicate"));
 
         Map<String, Object> result = playerService.bulkCreatePlayers(Arrays.asList(player));
 
@@ -237,6 +423,110 @@ class PlayerServiceTest {
         assertEquals(1, ((List<?>) result.get("failedIds")).size());
     }
 
+    @Test
+    void testBulkCreatePlayersDuplicateWithinRequest() {
+        Player first = new Player();
+        first.setPlayerId("p1");
+        first.setFirstName("First");
+        Player second = new Player();
+        second.setPlayerId("p1");
+        second.setFirstName("Second");
+
+        Map<String, Object> result = playerService.bulkCreatePlayers(Arrays.asList(first, second));
+
+        assertEquals(List.of("p1"), result.get("createdIds"));
+        assertEquals(List.of("p1 (duplicate in request)"), result.get("failedIds"));
+        verify(entityManager).persist(first);
+    }
+
+    @Test
+    void testBulkCreatePlayersRetriesFailedChunkRowByRow() {
+        Player player1 = new Player();
+        player1.setPlayerId("p1");
+        player1.setFirstName("Player1");
+        Player player2 = new Player();
+        player2.setPlayerId("p2");
+        player2.setFirstName("Player2");
+        doThrow(new PersistenceException("batch failed")).doNothing().when(entityManager).flush();
+        doNothing().doNothing().doNothing().doThrow(new PersistenceException("unique index violated"))
+                .when(entityManager).persist(any(Player.class));
+
+        Map<String, Object> result = playerService.bulkCreatePlayers(Arrays.asList(player1, player2));
+
+        assertEquals(List.of("p1"), result.get("createdIds"));
+        assertEquals(List.of("p2 (unique index violated)"), result.get("failedIds"));
+    }
+
+    @Test
+    void testBulkPatchPlayersLoadsOnceAndInvalidatesOnce() {
+        Player other = new Player();
+        other.setPlayerId("p2");
+        other.setBirthCountry("CAN");
+        when(playerRepository.findAllById(List.of("player123", "p2", "missing")))
+                .thenReturn(List.of(testPlayer, other));
+
+        Player weight = new Player();
+        weight.setPlayerId("player123");
+        weight.setWeight("210");
+        Player height = new Player();
+        height.setPlayerId("player123");
+        height.setHeight("76");
+        Player country = new Player();
+        country.setPlayerId("p2");
+        country.setBirthCountry("USA");
+        Player missing = new Player();
+        missing.setPlayerId("missing");
+        missing.setBats("L");
+
+        Map<String, Object> result = playerService.bulkPatchPlayers(List.of(weight, country, height, missing, new Player()));
+
+        assertEquals(List.of("player123", "p2"), result.get("updatedIds"));
+        assertEquals(List.of("missing"), result.get("notFoundIds"));
+        assertEquals(List.of("null-id (missing playerId)"), result.get("failedIds"));
+        assertEquals("210", testPlayer.getWeight());
+        assertEquals("76", testPlayer.getHeight());
+        assertEquals("1990", testPlayer.getBirthYear()); // null fields leave the value alone
+        assertEquals("USA", other.getBirthCountry());
+        verify(playerRepository, times(1)).findAllById(any());
+        verify(playerRepository, never()).save(any());
+        verify(entityManager, times(1)).flush();
+        verify(playerCacheInvalidator, times(1)).playersChanged(
+                argThat(before -> before.stream().anyMatch(p -> "CAN".equals(p.getBirthCountry()))),
+                eq(List.of(testPlayer, other)));
+        verify(eventPublisher, times(1)).publishEvent(any(PlayerDataChangedEvent.class));
+    }
+
+    @Test
+    void testBulkPatchPlayersRollsBackWholeBatch() {
+        when(playerRepository.findAllById(List.of("player123"))).thenReturn(List.of(testPlayer));
+        doThrow(new PersistenceException("value too long")).when(entityManager).flush();
+        Player patch = new Player();
+        patch.setPlayerId("player123");
+        patch.setWeight("210");
+
+        Map<String, Object> result = playerService.bulkPatchPlayers(List.of(patch));
+
+        assertEquals(List.of(), result.get("updatedIds"));
+        assertEquals(List.of("player123 (value too long)"), result.get("failedIds"));
+        verify(playerCacheInvalidator, never()).playersChanged(any(), any());
+    }
+
+    @Test
+    void testCreatePlayerGoesThroughWriteCoalescerWhenEnabled() {
+        when(playerWriteCoalescer.isEnabled()).thenReturn(true);
+        when(playerWriteCoalescer.submit(any())).thenAnswer(invocation ->
+                ((java.util.function.Supplier<PlayerWriteCoalescer.Change>) invocation.getArgument(0)).get());
+        when(playerRepository.save(testPlayer)).thenReturn(testPlayer);
+
+        Player result = playerService.createPlayer(testPlayer);
+
+        assertSame(testPlayer, result);
+        verify(playerWriteCoalescer, times(1)).submit(any());
+        // name index and cache upkeep happen once per group commit, inside the coalescer
+        verify(playerNameIndex, never()).upsert(any());
+        verify(playerCacheInvalidator, never()).playerChanged(any(), any());
+    }
+
     @Test
     void testBulkCreatePlayersMissingPlayerId() {
         Player player = new Player();
@@ -262,29 +552,42 @@ class PlayerServiceTest {
     }
 
     @Test
-    void testStreamAllPlayers() {
-        when(playerRepository.findAll()).thenReturn(Arrays.asList(testPlayer));
-        StringWriter sw = new StringWriter();
-        PrintWriter writer = new PrintWriter(sw);
+    void testStreamAllPlayers() throws IOException {
+        when(playerRepository.streamAllByOrderByPlayerId()).thenReturn(Stream.of(testPlayer));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
 
-        playerService.streamAllPlayers(writer);
-        writer.flush();
+        long rows = playerService.streamAllPlayers(out);
 
-        String output = sw.toString();
-        assertNotNull(output);
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertEquals(1, rows);
+        assertTrue(output.startsWith(PlayerCsvWriter.HEADER + "\n"));
         assertTrue(output.contains("player123"));
+        verify(entityManager).detach(testPlayer);
+        verify(playerExportMetrics).streamed(eq(PlayerExportFormat.CSV), eq(1L), anyLong());
     }
 
     @Test
-    void testStreamAllPlayersEmpty() {
-        when(playerRepository.findAll()).thenReturn(Collections.emptyList());
-        StringWriter sw = new StringWriter();
-        PrintWriter writer = new PrintWriter(sw);
+    void testStreamAllPlayersEmpty() throws IOException {
+        when(playerRepository.streamAllByOrderByPlayerId()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = playerService.streamAllPlayers(out);
+
+        assertEquals(0, rows);
+        assertEquals(PlayerCsvWriter.HEADER, out.toString(StandardCharsets.UTF_8).trim());
+    }
+
+    @Test
+    void testStreamAllPlayersAlignsColumnsWithHeaderAndEscapes() throws IOException {
+        testPlayer.setFirstName("José");
+        testPlayer.setLastName("O\"Neil, Jr.");
+        testPlayer.setBbrefId("player1");
+        when(playerRepository.streamAllByOrderByPlayerId()).thenReturn(Stream.of(testPlayer));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
 
-        playerService.streamAllPlayers(writer);
-        writer.flush();
+        playerService.streamAllPlayers(out);
 
-        String output = sw.toString();
-        assertEquals("", output.trim());
+        String row = out.toString(StandardCharsets.UTF_8).split("\n")[1];
+        assertEquals("player123,José,\"O\"\"Neil, Jr.\",1990,,,USA,,,200,75,,,,,,player1", row);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.PlayerDataChangedEvent;
+import com.app.playerservicejava.service.bulk.PlayerWriteCoalescer;
+import com.app.playerservicejava.service.bulk.PlayerWriteCoalescer.Change;
+import com.app.playerservicejava.service.cache.PlayerCacheInvalidator;
+import com.app.playerservicejava.service.search.PlayerNameIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class PlayerWriteCoalescerTest {
+
+    private PlatformTransactionManager transactionManager;
+    private PlayerCacheInvalidator playerCacheInvalidator;
+    private ApplicationEventPublisher eventPublisher;
+    private PlayerWriteCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        playerCacheInvalidator = mock(PlayerCacheInvalidator.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        coalescer = new PlayerWriteCoalescer();
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "windowMillis", 200L);
+        ReflectionTestUtils.setField(coalescer, "maxBatch", 8);
+        ReflectionTestUtils.setField(coalescer, "transactionTemplate", new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(coalescer, "playerNameIndex", mock(PlayerNameIndex.class));
+        ReflectionTestUtils.setField(coalescer, "playerCacheInvalidator", playerCacheInvalidator);
+        ReflectionTestUtils.setField(coalescer, "eventPublisher", eventPublisher);
+        coalescer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(coalescer, "shutdown");
+    }
+
+    @Test
+    void concurrentWritesShareOneTransactionAndOneInvalidation() throws Exception {
+        List<Future<Change>> results = submitConcurrently(8, i -> created("p" + i));
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals("p" + i, results.get(i).get().after().getPlayerId());
+        }
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(playerCacheInvalidator, times(1)).playersChanged(anyCollection(), argThat(after -> after.size() == 8));
+        verify(eventPublisher, times(1)).publishEvent(any(PlayerDataChangedEvent.class));
+    }
+
+    @Test
+    void failingWriteOnlyFailsItsOwnCaller() throws Exception {
+        List<Future<Change>> results = submitConcurrently(4, i -> {
+            if (i == 2) {
+                throw new IllegalArgumentException("bad row");
+            }
+            return created("p" + i);
+        });
+
+        ExecutionException error = assertThrows(ExecutionException.class, results.get(2)::get);
+        assertEquals("bad row", error.getCause().getMessage());
+        assertEquals("p0", results.get(0).get().after().getPlayerId());
+        assertEquals("p1", results.get(1).get().after().getPlayerId());
+        assertEquals("p3", results.get(3).get().after().getPlayerId());
+        // one group attempt, then one transaction per write
+        verify(transactionManager, times(5)).getTransaction(any());
+        verify(playerCacheInvalidator, times(1)).playersChanged(anyCollection(), argThat(after -> after.size() == 3));
+    }
+
+    @Test
+    void upkeepFailureAfterCommitStillReturnsTheStoredWrites() throws Exception {
+        doThrow(new IllegalStateException("listener broke")).when(eventPublisher).publishEvent(any(Object.class));
+        doThrow(new IllegalStateException("cache broke")).when(playerCacheInvalidator).playersChanged(anyCollection(), anyCollection());
+
+        List<Future<Change>> results = submitConcurrently(3, i -> created("p" + i));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("p" + i, results.get(i).get().after().getPlayerId());
+        }
+        verify(playerCacheInvalidator).invalidateAll(); // targeted eviction failed - caches cleared instead
+    }
+
+    @Test
+    void submitAfterShutdownFailsInsteadOfHanging() {
+        ReflectionTestUtils.invokeMethod(coalescer, "shutdown");
+
+        assertThrows(IllegalStateException.class, () -> coalescer.submit(() -> created("late")));
+    }
+
+    private interface Write {
+        Change run(int i);
+    }
+
+    private List<Future<Change>> submitConcurrently(int count, Write write) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(count);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Change>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int n = i;
+            results.add(pool.submit(() -> {
+                ready.await();
+                return coalescer.submit(() -> write.run(n));
+            }));
+        }
+        ready.countDown();
+        pool.shutdown();
+        return results;
+    }
+
+    private static Change created(String id) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        return new Change(true, null, player);
+    }
+}
@@ -0,0 +1,270 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.config.FailedLoginLimitFilter;
+import com.app.playerservicejava.config.RateLimitBucketStore;
+import com.app.playerservicejava.config.RateLimitFilter;
+import com.app.playerservicejava.config.RateLimitPolicyStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final String POLICIES = """
+            player:
+              ratelimit:
+                limits:
+                  writes:       { burst: 10, burst-period: 1m }
+                  admin-writes: { burst: 20, burst-period: 1m }
+                  chat:         { burst: 30, burst-period: 1m, sustained: 100, sustained-period: 1h }
+                policies:
+                  - name: chat
+                    paths: /v1/chat/**
+                    cost: 10
+                    limits: { default: chat }
+                  - name: player-writes
+                    paths: /v1/players/**
+                    methods: POST, PUT, PATCH, DELETE
+                    limits: { ADMIN: admin-writes, default: writes }
+            """;
+
+    @TempDir
+    Path dir;
+
+    private Path policyFile;
+    private RateLimitPolicyStore policyStore;
+    private RateLimitBucketStore bucketStore;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        policyFile = dir.resolve("ratelimit.yml");
+        Files.writeString(policyFile, POLICIES);
+        policyStore = new RateLimitPolicyStore();
+        ReflectionTestUtils.setField(policyStore, "policyFile", policyFile.toString());
+        ReflectionTestUtils.setField(policyStore, "reloadCheckMillis", 0L);
+        policyStore.init();
+
+        bucketStore = new RateLimitBucketStore();
+        ReflectionTestUtils.setField(bucketStore, "maxKeys", 50L);
+        bucketStore.init();
+        filter = newFilter(bucketStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void eleventhWriteFromSameClientIsRejected() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, request("POST", "/v1/players", "10.0.0.1").getStatus());
+        }
+        MockHttpServletResponse rejected = request("POST", "/v1/players", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+        assertEquals(200, request("POST", "/v1/players", "10.0.0.2").getStatus());
+        assertEquals(200, request("GET", "/v1/players", "10.0.0.1").getStatus()); // no read policy here
+    }
+
+    @Test
+    void adminRoleGetsItsOwnTierKeyedByUsername() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(200, request("DELETE", "/v1/players/p" + i, "10.0.0." + i).getStatus());
+        }
+        assertEquals(429, request("DELETE", "/v1/players/p20", "10.0.0.99").getStatus());
+    }
+
+    @Test
+    void costWeightsDrainTheBucketFaster() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, request("POST", "/v1/chat/prompt", "10.0.0.1").getStatus());
+        }
+        assertEquals(429, request("POST", "/v1/chat/prompt", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void changedPolicyFileIsPickedUpAndBadOneIsIgnored() throws Exception {
+        Files.writeString(policyFile, POLICIES.replace("{ burst: 10, burst-period: 1m }", "{ burst: 1, burst-period: 1m }"));
+        Files.setLastModifiedTime(policyFile, FileTime.from(Instant.now().plusSeconds(5)));
+
+        assertEquals(200, request("POST", "/v1/players", "10.0.0.1").getStatus());
+        assertEquals(429, request("POST", "/v1/players", "10.0.0.1").getStatus());
+
+        Files.writeString(policyFile, POLICIES.replace("default: writes", "default: missing"));
+        Map<String, Object> result = policyStore.reload();
+        assertTrue(result.get("status").toString().startsWith("failed"));
+        assertEquals(429, request("POST", "/v1/players", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void reloadKeepsTheShareOfTokensAClientHasUsed() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, request("POST", "/v1/players", "10.0.0.1").getStatus());
+        }
+        Files.writeString(policyFile, POLICIES.replace("{ burst: 10, burst-period: 1m }", "{ burst: 20, burst-period: 1m }"));
+        Files.setLastModifiedTime(policyFile, FileTime.from(Instant.now().plusSeconds(5)));
+
+        int allowed = 0;
+        while (request("POST", "/v1/players", "10.0.0.1").getStatus() == 200) {
+            allowed++;
+        }
+        assertEquals(10, allowed); // half of the new 20, not a fresh bucket
+        for (int i = 0; i < 20; i++) {
+            assertEquals(200, request("POST", "/v1/players", "10.0.0.2").getStatus()); // new clients get the new limit
+        }
+    }
+
+    @Test
+    void failedLoginsAreLimitedPerIpBeforeAuthentication() throws Exception {
+        FailedLoginLimitFilter guard = new FailedLoginLimitFilter();
+        ReflectionTestUtils.setField(guard, "policyStore", policyStore);
+        ReflectionTestUtils.setField(guard, "bucketStore", bucketStore);
+        FilterChain badPassword = (req, res) -> ((HttpServletResponse) res).setStatus(401);
+
+        for (int i = 0; i < 10; i++) { // no failed-logins limit in this policy file - built-in 10/min applies
+            assertEquals(401, login(guard, badPassword, "10.0.0.1").getStatus());
+        }
+        assertEquals(429, login(guard, badPassword, "10.0.0.1").getStatus());
+        assertEquals(429, login(guard, new MockFilterChain(), "10.0.0.1").getStatus()); // even a right password
+        assertEquals(200, login(guard, new MockFilterChain(), "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void idleExpiryCoversTheSlowestRefillAcrossReloads() throws Exception {
+        ReflectionTestUtils.setField(bucketStore, "policyStore", policyStore);
+        bucketStore.init();
+        assertEquals(Duration.ofHours(1), bucketStore.getExpiry()); // chat's sustained-period, not idle-expiry's 10m
+
+        Files.writeString(policyFile, POLICIES.replace("sustained-period: 1h", "sustained-period: 3h"));
+        Files.setLastModifiedTime(policyFile, FileTime.from(Instant.now().plusSeconds(5)));
+        request("POST", "/v1/players", "10.0.0.1");
+
+        assertEquals(Duration.ofHours(3), bucketStore.getExpiry());
+        assertEquals(Duration.ofHours(3), bucketStore().policy().expireAfterAccess().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    void trackedClientsStayBoundedUnderSpoofedForwardedFor() throws Exception {
+        for (int i = 0; i < 5000; i++) {
+            request("POST", "/v1/players", "203.0." + (i / 256) + "." + (i % 256));
+        }
+        Cache<String, ?> buckets = bucketStore();
+        buckets.cleanUp();
+        assertTrue(buckets.estimatedSize() <= 50, "tracked " + buckets.estimatedSize());
+        assertTrue(buckets.stats().evictionCount() > 0);
+    }
+
+    @Test
+    void distributedModeHoldsTheLimitAcrossNodes() throws Exception {
+        DriverManagerDataSource shared = new DriverManagerDataSource("jdbc:h2:mem:ratelimit;DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(shared).execute("CREATE TABLE IF NOT EXISTS RATE_LIMIT_BUCKET (BUCKET_KEY VARCHAR(512) PRIMARY KEY,"
+                + " STATE VARBINARY(4096) NOT NULL, VERSION BIGINT NOT NULL, EXPIRES_AT BIGINT NOT NULL)");
+        RateLimitFilter nodeA = newFilter(distributedStore(shared));
+        RateLimitFilter nodeB = newFilter(distributedStore(shared));
+
+        int allowed = 0;
+        for (int i = 0; i < 30; i++) {
+            RateLimitFilter node = i % 2 == 0 ? nodeA : nodeB;
+            if (request(node, "POST", "/v1/players", "10.9.9.9").getStatus() == 200) {
+                allowed++;
+            }
+        }
+        // 10 per client cluster-wide; each node may overshoot by the tokens it has not synced yet
+        assertTrue(allowed >= 10 && allowed <= 12, "allowed " + allowed);
+        assertEquals(1, new JdbcTemplate(shared).queryForObject("SELECT COUNT(*) FROM RATE_LIMIT_BUCKET", Integer.class));
+    }
+
+    @Test
+    void distributedRowOfAnHourlyLimitSurvivesThePurge() throws Exception {
+        DriverManagerDataSource shared = new DriverManagerDataSource("jdbc:h2:mem:ratelimit-purge;DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(shared).execute("CREATE TABLE IF NOT EXISTS RATE_LIMIT_BUCKET (BUCKET_KEY VARCHAR(512) PRIMARY KEY,"
+                + " STATE VARBINARY(4096) NOT NULL, VERSION BIGINT NOT NULL, EXPIRES_AT BIGINT NOT NULL)");
+        RateLimitBucketStore store = distributedStore(shared);
+        ReflectionTestUtils.setField(store, "policyStore", policyStore);
+        store.init();
+        RateLimitFilter node = newFilter(store);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, request(node, "POST", "/v1/chat/prompt", "10.7.7.7").getStatus());
+        }
+        assertEquals(429, request(node, "POST", "/v1/chat/prompt", "10.7.7.7").getStatus());
+
+        // 30 of chat's 100/h sustained tokens are gone: ~18 minutes to refill, well past the 1-minute purge
+        long expiresAt = new JdbcTemplate(shared).queryForObject(
+                "SELECT EXPIRES_AT FROM RATE_LIMIT_BUCKET WHERE BUCKET_KEY LIKE '%10.7.7.7'", Long.class);
+        assertTrue(expiresAt - System.currentTimeMillis() > Duration.ofMinutes(15).toMillis(), "expires at " + expiresAt);
+        ReflectionTestUtils.invokeMethod(store, "purgeExpired");
+        assertEquals(1, new JdbcTemplate(shared).queryForObject(
+                "SELECT COUNT(*) FROM RATE_LIMIT_BUCKET WHERE BUCKET_KEY LIKE '%10.7.7.7'", Integer.class));
+    }
+
+    private static MockHttpServletResponse login(FailedLoginLimitFilter guard, FilterChain chain, String forwardedFor)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/players");
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        request.addHeader("Authorization", "Basic dmlld2VyOndyb25n");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        guard.doFilter(request, response, chain);
+        return response;
+    }
+
+    private RateLimitBucketStore distributedStore(DriverManagerDataSource shared) {
+        RateLimitBucketStore store = new RateLimitBucketStore();
+        ReflectionTestUtils.setField(store, "distributed", true);
+        ReflectionTestUtils.setField(store, "dataSource", shared);
+        ReflectionTestUtils.setField(store, "maxUnsyncedTokens", 1L);
+        store.init();
+        return store;
+    }
+
+    private RateLimitFilter newFilter(RateLimitBucketStore store) {
+        RateLimitFilter node = new RateLimitFilter();
+        ReflectionTestUtils.setField(node, "policyStore", policyStore);
+        ReflectionTestUtils.setField(node, "bucketStore", store);
+        return node;
+    }
+
+    private MockHttpServletResponse request(String method, String path, String forwardedFor) throws Exception {
+        return request(filter, method, path, forwardedFor);
+    }
+
+    private MockHttpServletResponse request(RateLimitFilter target, String method, String path, String forwardedFor)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        target.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, ?> bucketStore() {
+        return (Cache<String, ?>) ReflectionTestUtils.getField(bucketStore, "buckets");
+    }
+}
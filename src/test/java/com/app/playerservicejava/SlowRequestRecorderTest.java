@@ -0,0 +1,84 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.config.CorrelationIdFilter;
+import com.app.playerservicejava.service.trace.RequestTrace;
+import com.app.playerservicejava.service.trace.SlowRequestRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestRecorderTest {
+
+    private SlowRequestRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new SlowRequestRecorder();
+        ReflectionTestUtils.setField(recorder, "size", 2);
+    }
+
+    @Test
+    void keepsSlowestRequestsWithStageBreakdown() throws Exception {
+        record("warm-up", 0); // first event pays for JFR class init
+        recorder.clear();
+        record("fast", 0);
+        record("slow", 30);
+        record("medium", 10);
+
+        List<Map<String, Object>> slowest = recorder.snapshot();
+
+        assertEquals(List.of("slow", "medium"), slowest.stream().map(e -> e.get("correlationId")).toList());
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> stages = (Map<String, Map<String, Object>>) slowest.get(0).get("stages");
+        assertEquals(2L, stages.get("sleep").get("count"));
+        assertTrue((double) stages.get("sleep").get("ms") >= 30);
+        assertTrue((double) slowest.get(0).get("durationMs") >= (double) stages.get("sleep").get("ms"));
+    }
+
+    @Test
+    void filterPropagatesCorrelationIdAndRecordsTrace() throws Exception {
+        CorrelationIdFilter filter = new CorrelationIdFilter();
+        ReflectionTestUtils.setField(filter, "slowRequestRecorder", recorder);
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/players/p1");
+        request.addHeader(CorrelationIdFilter.HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            seen.set(RequestTrace.current().getCorrelationId());
+            try (RequestTrace.Stage ignored = RequestTrace.stage("db")) {
+                assertEquals("abc-123", CorrelationIdFilter.correlationId((MockHttpServletRequest) req));
+            }
+        });
+
+        assertEquals("abc-123", seen.get());
+        assertEquals("abc-123", response.getHeader(CorrelationIdFilter.HEADER));
+        assertNull(RequestTrace.current());
+        assertEquals("/v1/players/p1", recorder.snapshot().get(0).get("uri"));
+
+        MockHttpServletRequest spoofed = new MockHttpServletRequest("GET", "/v1/players");
+        spoofed.addHeader(CorrelationIdFilter.HEADER, "bad id\r\ninjected");
+        MockHttpServletResponse replaced = new MockHttpServletResponse();
+        filter.doFilter(spoofed, replaced, (req, res) -> { });
+        assertNotEquals("bad id\r\ninjected", replaced.getHeader(CorrelationIdFilter.HEADER));
+    }
+
+    private void record(String id, long sleepMillis) throws InterruptedException {
+        RequestTrace trace = RequestTrace.begin(id, "GET", "/v1/players/" + id);
+        for (int i = 0; i < 2; i++) {
+            try (RequestTrace.Stage ignored = RequestTrace.stage("sleep")) {
+                Thread.sleep(sleepMillis / 2);
+            }
+        }
+        trace.end(200);
+        recorder.record(trace, 200);
+    }
+}
@@ -0,0 +1,90 @@
+package com.app.playerservicejava;
+
+import com.app.playerservicejava.model.Player;
+import com.app.playerservicejava.service.loader.CsvLineParser;
+import com.app.playerservicejava.service.loader.PlayerBatchWriter;
+import com.app.playerservicejava.service.loader.SyntheticPlayerGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticPlayerGeneratorTest {
+
+    private static final Path SOURCE = Path.of("Player.csv");
+
+    private static SyntheticPlayerGenerator generator;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        generator = SyntheticPlayerGenerator.fromCsv(SOURCE, 42);
+    }
+
+    @Test
+    void rowsAreAFunctionOfSeedAndIndex() throws Exception {
+        List<String[]> all = generator.rows(0, 1_000);
+        List<String[]> tail = SyntheticPlayerGenerator.fromCsv(SOURCE, 42).rows(500, 1_000);
+        for (int i = 0; i < tail.size(); i++) {
+            assertArrayEquals(all.get(500 + i), tail.get(i));
+        }
+
+        List<String[]> otherSeed = SyntheticPlayerGenerator.fromCsv(SOURCE, 7).rows(0, 1_000);
+        long same = 0;
+        for (int i = 0; i < all.size(); i++) {
+            same += all.get(i)[14].equals(otherSeed.get(i)[14]) && all.get(i)[1].equals(otherSeed.get(i)[1]) ? 1 : 0;
+        }
+        assertTrue(same < 50, "different seeds should give different rows");
+    }
+
+    @Test
+    void rowsFollowTheSourceDistributions() throws Exception {
+        List<Player> players = generator.players(0, 20_000).toList();
+
+        Set<String> ids = new HashSet<>();
+        long usa = 0;
+        for (Player player : players) {
+            assertTrue(ids.add(player.getPlayerId()), "duplicate id " + player.getPlayerId());
+            assertTrue(player.getPlayerId().matches("[a-z]+\\d+x"), player.getPlayerId());
+            usa += "USA".equals(player.getBirthCountry()) ? 1 : 0;
+            int height = Integer.parseInt(player.getHeight());
+            assertTrue(height > 40 && height < 90, "height " + height);
+            assertNotNull(player.getDebut());
+            assertTrue(player.getFinalGame().compareTo(player.getDebut()) >= 0);
+            if (player.getDeathYear() != null) {
+                assertTrue(Integer.parseInt(player.getDeathYear()) > Integer.parseInt(player.getBirthYear()));
+            }
+        }
+        double share = usa / (double) players.size();
+        assertTrue(share > 0.84 && share < 0.90, "USA share " + share); // ~87% in Player.csv
+    }
+
+    @Test
+    void csvAndJdbcTargetsHoldTheSameRows() throws Exception {
+        StringWriter csv = new StringWriter();
+        generator.writeCsv(csv, 0, 300);
+        String[] lines = csv.toString().split("\n");
+        assertEquals(301, lines.length);
+        assertEquals(PlayerBatchWriter.COLUMNS,
+                List.of(PlayerBatchWriter.resolveColumns(CsvLineParser.parse(lines[0]))));
+        assertArrayEquals(generator.row(299), CsvLineParser.parse(lines[300]));
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:synthetic;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        PlayerBatchWriter writer = new PlayerBatchWriter(new JdbcTemplate(dataSource));
+
+        assertEquals(300, generator.insert(writer, 0, 300, 64, 3));
+        assertEquals(300, writer.count());
+        assertEquals(generator.row(123)[14], new JdbcTemplate(dataSource).queryForObject(
+                "SELECT NAMELAST FROM PLAYERS WHERE PLAYERID = ?", String.class, generator.row(123)[0]));
+    }
+}